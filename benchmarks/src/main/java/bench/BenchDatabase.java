@@ -0,0 +1,127 @@
+package bench;
+
+import dao.DBConnector;
+import dao.TodoDAO;
+import model.Todo;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 벤치마크용 DB. MySQL 대신 H2(MySQL 호환 모드) 파일 DB 를 행 수별로 하나씩 만들고,
+ * 이미 같은 행 수로 채워져 있으면 그대로 재사용한다 (1M 행 시딩은 한 번만).
+ * JMH 는 파라미터 조합마다 새 JVM 을 띄우므로 DBConnector 의 정적 풀도 조합마다 새로 만들어진다.
+ */
+@State(Scope.Benchmark)
+public class BenchDatabase {
+
+    // 시드 데이터가 퍼지는 기간 (3년)
+    static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    static final int DAYS = 3 * 365;
+
+    static final String[] WORDS = {
+            "회의", "보고서", "운동", "장보기", "과제", "청소", "병원", "독서",
+            "meeting", "report", "review", "deploy", "study", "call", "travel", "budget"
+    };
+
+    private static final int SEED_CHUNK = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    public TodoDAO dao;
+    int minId;
+    int maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path dir = Path.of(System.getProperty("planit.bench.dir", "target/benchdb")).toAbsolutePath();
+        System.setProperty("planit.db.url", "jdbc:h2:file:" + dir.resolve("planit-" + rows) + ";MODE=MySQL");
+        System.setProperty("planit.db.user", "bench");
+        System.setProperty("planit.db.password", "bench");
+
+        dao = new TodoDAO();   // 스키마 마이그레이션 포함
+        if (count() != rows) {
+            seed();
+        }
+        loadIdRange();
+    }
+
+    private void seed() {
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement("DELETE FROM todos")) {
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("벤치마크 DB 초기화 실패", e);
+        }
+
+        Random random = new Random(42);
+        List<Todo> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(randomTodo(random));
+            if (chunk.size() == SEED_CHUNK || i == rows - 1) {
+                dao.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+    }
+
+    private int count() {
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT COUNT(*) FROM todos");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new RuntimeException("벤치마크 DB 조회 실패", e);
+        }
+    }
+
+    // 쓰기 벤치마크는 넣은 행을 바로 지우므로 시드 행의 id 범위는 그대로 유지된다
+    private void loadIdRange() {
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT MIN(id), MAX(id) FROM todos");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            minId = rs.getInt(1);
+            maxId = rs.getInt(2);
+        } catch (SQLException e) {
+            throw new RuntimeException("벤치마크 DB 조회 실패", e);
+        }
+    }
+
+    static Todo randomTodo(Random random) {
+        Todo t = new Todo();
+        t.setTitle(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+        t.setDescription(random.nextInt(4) == 0 ? null : "메모 " + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(1000));
+        t.setDate(FIRST_DAY.plusDays(random.nextInt(DAYS)));
+        t.setPriority(1 + random.nextInt(3));
+        t.setCompleted(random.nextInt(3) == 0);
+        return t;
+    }
+
+    int randomId() {
+        return ThreadLocalRandom.current().nextInt(minId, maxId + 1);
+    }
+
+    static LocalDate randomDate() {
+        return FIRST_DAY.plusDays(ThreadLocalRandom.current().nextInt(DAYS));
+    }
+
+    static String randomWord() {
+        return WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,88 @@
+package bench;
+
+import controller.MainController;
+import model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.DateUtils;
+import view.CalendarViewPanel;
+
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 달력 한 달 그리기 (헤드리스). refresh() 는 캐시에 올라온 달이라 동기 경로(renderDays)만 탄다.
+ *   renderMonth: 요약 → 날짜 칸 갱신,  layout: 레이아웃 트리 계산,  paint: BufferedImage 에 그리기
+ * 할당률은 -prof gc 로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CalendarRenderBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int todosInMonth;
+
+    private MainController controller;
+    private CalendarViewPanel calendar;
+    private BufferedImage image;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate month = DateUtils.getToday().withDayOfMonth(1);
+        List<Todo> todos = OffscreenUi.todosInMonth(month, todosInMonth, 42);
+        controller = OffscreenUi.controller(todos, month.minusMonths(1), month, month.plusMonths(1));
+
+        calendar = new CalendarViewPanel(controller);
+        OffscreenUi.prepare(calendar);
+        OffscreenUi.layoutTree(calendar);
+        image = OffscreenUi.image();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.shutdown();
+    }
+
+    @Benchmark
+    public CalendarViewPanel renderMonth() {
+        calendar.refresh();
+        return calendar;
+    }
+
+    @Benchmark
+    public CalendarViewPanel layout() {
+        OffscreenUi.layoutTree(calendar);
+        return calendar;
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        OffscreenUi.paint(calendar, image);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage renderLayoutPaint() {
+        calendar.refresh();
+        OffscreenUi.layoutTree(calendar);
+        OffscreenUi.paint(calendar, image);
+        return image;
+    }
+}
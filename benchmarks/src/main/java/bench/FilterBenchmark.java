@@ -0,0 +1,84 @@
+package bench;
+
+import model.FilterOptions;
+import model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * FilterOptions 조건 조합별 findByFilter.
+ * shape 는 켜진 조건의 비트 묶음: 1 keyword, 2 startDate, 4 endDate, 8 completed, 16 priority (32가지 전부).
+ * 시작·끝이 둘 다 켜지면 한 달 범위, 하나만 켜지면 열린 범위다. ids 는 후보 id 100개를 더한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    private static final int KEYWORD = 1;
+    private static final int START = 2;
+    private static final int END = 4;
+    private static final int COMPLETED = 8;
+    private static final int PRIORITY = 16;
+
+    @Param({
+            "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15",
+            "16", "17", "18", "19", "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31"
+    })
+    public int shape;
+
+    @Param({"false", "true"})
+    public boolean ids;
+
+    @Benchmark
+    public List<Todo> findByFilter(BenchDatabase db) {
+        return db.dao.findByFilter(build(db));
+    }
+
+    private FilterOptions build(BenchDatabase db) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        FilterOptions f = new FilterOptions();
+        if ((shape & KEYWORD) != 0) {
+            f.setKeyword(BenchDatabase.randomWord());
+        }
+        LocalDate start = BenchDatabase.randomDate().withDayOfMonth(1);
+        if ((shape & START) != 0) {
+            f.setStartDate(start);
+        }
+        if ((shape & END) != 0) {
+            f.setEndDate((shape & START) != 0 ? start.plusMonths(1).minusDays(1) : start);
+        }
+        if ((shape & COMPLETED) != 0) {
+            f.setCompleted(random.nextBoolean());
+        }
+        if ((shape & PRIORITY) != 0) {
+            f.setPriority(1 + random.nextInt(3));
+        }
+        if (ids) {
+            Set<Integer> candidates = new HashSet<>();
+            while (candidates.size() < 100) {
+                candidates.add(db.randomId());
+            }
+            f.setCandidateIds(candidates);
+        }
+        return f;
+    }
+}
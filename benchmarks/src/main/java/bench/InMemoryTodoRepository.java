@@ -0,0 +1,149 @@
+package bench;
+
+import dao.TodoRepository;
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 화면 벤치마크용 읽기 전용 데이터 소스. DB 없이 목록을 그대로 걸러서 돌려준다 */
+class InMemoryTodoRepository implements TodoRepository {
+
+    private final List<Todo> todos;
+
+    InMemoryTodoRepository(List<Todo> todos) {
+        this.todos = todos;
+    }
+
+    @Override
+    public List<Todo> findByFilter(FilterOptions filter) {
+        List<Todo> result = new ArrayList<>();
+        for (Todo t : todos) {
+            if (filter.matches(t)) {
+                result.add(t.copy());
+            }
+        }
+        result.sort(Todo.BY_PRIORITY_DATE_ID);
+        return result;
+    }
+
+    @Override
+    public List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit) {
+        List<Todo> all = findByFilter(filter);
+        int from = 0;
+        if (after != null) {
+            while (from < all.size() && Todo.BY_PRIORITY_DATE_ID.compare(all.get(from), after) <= 0) {
+                from++;
+            }
+        }
+        return new ArrayList<>(all.subList(from, Math.min(all.size(), from + limit)));
+    }
+
+    @Override
+    public List<Todo> findByDate(LocalDate date) {
+        FilterOptions f = new FilterOptions();
+        f.setStartDate(date);
+        f.setEndDate(date);
+        return findByFilter(f);
+    }
+
+    @Override
+    public Todo findById(int id) {
+        for (Todo t : todos) {
+            if (t.getId() == id) return t.copy();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean existsByDate(LocalDate date) {
+        return getDaySummary(date) != null;
+    }
+
+    @Override
+    public Integer getHighestPriorityForDate(LocalDate date) {
+        DaySummary s = getDaySummary(date);
+        return (s != null) ? s.getHighestPriority() : null;
+    }
+
+    @Override
+    public DaySummary getDaySummary(LocalDate date) {
+        return getMonthSummary(date).get(date);
+    }
+
+    @Override
+    public Map<LocalDate, DaySummary> getMonthSummary(LocalDate month) {
+        LocalDate first = month.withDayOfMonth(1);
+        FilterOptions f = new FilterOptions();
+        f.setStartDate(first);
+        f.setEndDate(first.plusMonths(1).minusDays(1));
+
+        Map<LocalDate, List<Todo>> byDate = new HashMap<>();
+        for (Todo t : findByFilter(f)) {
+            byDate.computeIfAbsent(t.getDate(), d -> new ArrayList<>()).add(t);
+        }
+        Map<LocalDate, DaySummary> result = new HashMap<>();
+        for (Map.Entry<LocalDate, List<Todo>> e : byDate.entrySet()) {
+            int highest = Integer.MAX_VALUE;
+            int completed = 0;
+            for (Todo t : e.getValue()) {
+                highest = Math.min(highest, t.getPriority());
+                if (t.isCompleted()) completed++;
+            }
+            result.put(e.getKey(), new DaySummary(e.getKey(), highest, e.getValue().size(), completed));
+        }
+        return result;
+    }
+
+    /* ===== 쓰기는 지원하지 않음 ===== */
+
+    @Override
+    public void insert(Todo todo) {
+        throw readOnly();
+    }
+
+    @Override
+    public void update(Todo todo) {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFields(Todo todo) {
+        throw readOnly();
+    }
+
+    @Override
+    public void delete(int id) {
+        throw readOnly();
+    }
+
+    @Override
+    public void insertAll(List<Todo> todos) {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAll(List<Todo> todos) {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFieldsAll(List<Todo> todos) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteAll(Collection<Integer> ids) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("벤치마크용 읽기 전용 저장소");
+    }
+}
@@ -0,0 +1,82 @@
+package bench;
+
+import controller.MainController;
+import dao.CachedTodoRepository;
+import model.Todo;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * 헤드리스(java.awt.headless=true) 화면 벤치마크 공통 도구.
+ * 피어가 없으면 validate() 가 아무것도 하지 않으므로 doLayout 을 직접 내려 보내고,
+ * 그리기는 BufferedImage 의 Graphics 에 paint() 한다.
+ */
+final class OffscreenUi {
+
+    static final int WIDTH = 900;
+    static final int HEIGHT = 700;
+
+    private OffscreenUi() {
+    }
+
+    /* 캐시(월 요약 즉시 반환) 뒤에 메모리 데이터 소스를 둔 컨트롤러 */
+    static MainController controller(List<Todo> todos, LocalDate... warmMonths) {
+        CachedTodoRepository repository = new CachedTodoRepository(new InMemoryTodoRepository(todos), 24);
+        for (LocalDate m : warmMonths) {
+            repository.getMonthSummary(m);   // 미리 올려 두어 렌더 중 백그라운드 로딩이 끼지 않게
+        }
+        return new MainController(repository);
+    }
+
+    /* date 가 속한 달 안에 고르게 흩어진 todo n 개 */
+    static List<Todo> todosInMonth(LocalDate month, int n, long seed) {
+        Random random = new Random(seed);
+        LocalDate first = month.withDayOfMonth(1);
+        int days = first.lengthOfMonth();
+        List<Todo> todos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Todo t = BenchDatabase.randomTodo(random);
+            t.setId(i + 1);
+            t.setDate(first.plusDays(random.nextInt(days)));
+            t.clearDirty();
+            todos.add(t);
+        }
+        return todos;
+    }
+
+    static void prepare(JComponent root) {
+        RepaintManager.currentManager(root).setDoubleBufferingEnabled(false);   // 이미지에 바로 그림
+        root.setSize(WIDTH, HEIGHT);
+    }
+
+    static void layoutTree(Component c) {
+        if (c instanceof Container container) {
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    }
+
+    static BufferedImage image() {
+        return new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    static void paint(JComponent root, BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        try {
+            root.paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+}
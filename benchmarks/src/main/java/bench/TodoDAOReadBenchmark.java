@@ -0,0 +1,71 @@
+package bench;
+
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/* TodoDAO 단건/날짜 조회 경로. Throughput(ops/ms) 과 SampleTime(p50/p90/p99 …) 을 함께 잰다 */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoDAOReadBenchmark {
+
+    @Benchmark
+    public Todo findById(BenchDatabase db) {
+        return db.dao.findById(db.randomId());
+    }
+
+    @Benchmark
+    public List<Todo> findByDate(BenchDatabase db) {
+        return db.dao.findByDate(BenchDatabase.randomDate());
+    }
+
+    @Benchmark
+    public boolean existsByDate(BenchDatabase db) {
+        return db.dao.existsByDate(BenchDatabase.randomDate());
+    }
+
+    @Benchmark
+    public Integer getHighestPriorityForDate(BenchDatabase db) {
+        return db.dao.getHighestPriorityForDate(BenchDatabase.randomDate());
+    }
+
+    @Benchmark
+    public DaySummary getDaySummary(BenchDatabase db) {
+        return db.dao.getDaySummary(BenchDatabase.randomDate());
+    }
+
+    @Benchmark
+    public Map<LocalDate, DaySummary> getMonthSummary(BenchDatabase db) {
+        return db.dao.getMonthSummary(BenchDatabase.randomDate());
+    }
+
+    // 검색 화면 첫 페이지 (planit.filter.pageSize 기본값 200 + 1)
+    @Benchmark
+    public List<Todo> findPageByFilterFirstPage(BenchDatabase db) {
+        FilterOptions f = new FilterOptions();
+        f.setKeyword(BenchDatabase.randomWord());
+        return db.dao.findPageByFilter(f, null, 201);
+    }
+
+    // 키셋 다음 페이지: 임의의 행 뒤에서 시작
+    @Benchmark
+    public List<Todo> findPageByFilterAfter(BenchDatabase db) {
+        Todo after = db.dao.findById(db.randomId());
+        return db.dao.findPageByFilter(new FilterOptions(), after, 201);
+    }
+}
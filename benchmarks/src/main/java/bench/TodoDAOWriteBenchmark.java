@@ -0,0 +1,101 @@
+package bench;
+
+import model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * TodoDAO 쓰기 경로. 행 수가 변하지 않도록 넣은 행은 같은 연산 안에서 지우고,
+ * UPDATE 는 임의의 시드 행을 시드와 같은 분포의 임의 값으로 덮어쓴다 (행 수와 값 분포가 유지된다).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoDAOWriteBenchmark {
+
+    private static final int BATCH = 100;
+
+    @Benchmark
+    public int insertThenDelete(BenchDatabase db) {
+        Todo t = BenchDatabase.randomTodo(ThreadLocalRandom.current());
+        db.dao.insert(t);
+        db.dao.delete(t.getId());
+        return t.getId();
+    }
+
+    @Benchmark
+    public Todo update(BenchDatabase db) {
+        Todo t = seededRow(db);
+        t.setPriority(1 + (t.getPriority() % 3));
+        db.dao.update(t);
+        return t;
+    }
+
+    // 완료 토글처럼 한 컬럼만 바뀐 경우 (부분 UPDATE)
+    @Benchmark
+    public Todo updateFields(BenchDatabase db) {
+        Todo t = seededRow(db);
+        t.setCompleted(!t.isCompleted());
+        db.dao.updateFields(t);
+        return t;
+    }
+
+    @Benchmark
+    public int insertAllThenDeleteAll(BenchDatabase db) {
+        Random random = ThreadLocalRandom.current();
+        List<Todo> todos = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            todos.add(BenchDatabase.randomTodo(random));
+        }
+        db.dao.insertAll(todos);
+        List<Integer> ids = new ArrayList<>(BATCH);
+        for (Todo t : todos) {
+            ids.add(t.getId());
+        }
+        db.dao.deleteAll(ids);
+        return ids.size();
+    }
+
+    @Benchmark
+    public int updateAll(BenchDatabase db) {
+        List<Todo> todos = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            todos.add(seededRow(db));
+        }
+        db.dao.updateAll(todos);
+        return todos.size();
+    }
+
+    @Benchmark
+    public int updateFieldsAll(BenchDatabase db) {
+        List<Todo> todos = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            Todo t = seededRow(db);
+            t.setCompleted(!t.isCompleted());
+            todos.add(t);
+        }
+        db.dao.updateFieldsAll(todos);
+        return todos.size();
+    }
+
+    // 조회 비용이 섞이지 않도록 id 만 채운 행 (값은 임의) — UPDATE 는 PK 로만 찾는다
+    private static Todo seededRow(BenchDatabase db) {
+        Todo t = BenchDatabase.randomTodo(ThreadLocalRandom.current());
+        t.setId(db.randomId());
+        t.clearDirty();
+        return t;
+    }
+}
@@ -0,0 +1,100 @@
+package bench;
+
+import controller.MainController;
+import model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.DateUtils;
+import view.TodoListViewPanel;
+
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 할 일 목록 그리기 (헤드리스). 같은 크기의 두 목록을 번갈아 넣어 매번 실제로 내용이 바뀌게 한다.
+ *   setTodos: showTodos → 모델 교체,  layout: 레이아웃 트리 계산,  paint: 보이는 행 그리기
+ * 할당률은 -prof gc 로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TodoListRenderBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private MainController controller;
+    private TodoListViewPanel listView;
+    private BufferedImage image;
+    private List<Todo> first;
+    private List<Todo> second;
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate month = DateUtils.getToday().withDayOfMonth(1);
+        first = OffscreenUi.todosInMonth(month, size, 1);
+        first.sort(Todo.BY_PRIORITY_DATE_ID);
+        second = OffscreenUi.todosInMonth(month, size, 2);
+        second.sort(Todo.BY_PRIORITY_DATE_ID);
+
+        controller = OffscreenUi.controller(first);
+        listView = new TodoListViewPanel(controller);
+        OffscreenUi.prepare(listView);
+        listView.showTodos(first);
+        OffscreenUi.layoutTree(listView);
+        image = OffscreenUi.image();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.shutdown();
+    }
+
+    private List<Todo> next() {
+        flip = !flip;
+        return flip ? second : first;
+    }
+
+    @Benchmark
+    public TodoListViewPanel setTodos() {
+        listView.showTodos(next());
+        return listView;
+    }
+
+    @Benchmark
+    public TodoListViewPanel layout() {
+        OffscreenUi.layoutTree(listView);
+        return listView;
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        OffscreenUi.paint(listView, image);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage setLayoutPaint() {
+        listView.showTodos(next());
+        OffscreenUi.layoutTree(listView);
+        OffscreenUi.paint(listView, image);
+        return image;
+    }
+}
@@ -0,0 +1,258 @@
+package controller;
+
+import dao.TodoRepository;
+import model.Todo;
+import util.AppConfig;
+
+import javax.swing.SwingUtilities;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 완료 체크 토글용 write-behind 큐.
+ * 화면은 바로 바꾸고, DB 쓰기는 windowMs 동안 모았다가 백그라운드에서 한 번의 배치로 보낸다.
+ * - 같은 id 를 여러 번 누르면 마지막 값만 남고, 원래 값으로 되돌아오면 아예 쓰지 않는다
+ * - 연결 끊김/교착 같은 일시적 오류는 간격을 늘려 가며 재시도
+ * - 그 밖의 오류거나 재시도를 다 쓰면 화면 값을 되돌리고 listener 로 알린다 (EDT)
+ * - 폼 저장/일괄 작업/삭제처럼 같은 행을 직접 쓰는 경로는 먼저 discard 로 해당 항목을 넘겨받고,
+ *   쓰는 중인 배치가 끝난 뒤(awaitWritten) 자기 값을 쓴다. 그래야 늦은 flush 가 새 값을 덮지 않는다
+ */
+public class CompletionWriteBehind implements AutoCloseable {
+
+    public interface FailureListener {
+        void onPermanentFailure(List<Todo> reverted, Throwable error);
+    }
+
+    private static final class Entry {
+        Todo ui;              // 화면에 표시 중인 객체 (실패 시 되돌릴 대상)
+        final Todo base;      // 큐에 넣을 때의 복사본
+        boolean original;     // DB 에 들어 있는 값
+        boolean target;       // 써야 할 값
+        int attempts;
+        boolean superseded;   // 다른 쓰기가 넘겨받음: 실패해도 되돌리거나 재시도하지 않음
+
+        Entry(Todo ui, boolean original) {
+            this.ui = ui;
+            this.base = ui.copy();
+            this.original = original;
+            this.target = ui.isCompleted();
+        }
+
+        // original → target 변경만 dirty 로 표시된 행 (completed 컬럼만 UPDATE 됨)
+        Todo toRow() {
+            Todo row = base.copy();
+            row.setCompleted(original);
+            row.clearDirty();
+            row.setCompleted(target);
+            return row;
+        }
+    }
+
+    private final TodoRepository repository;
+    private final FailureListener listener;
+    private final long windowMs = AppConfig.getLong("planit.writeBehind.windowMs", 500);
+    private final int maxRetries = AppConfig.getInt("planit.writeBehind.maxRetries", 3);
+    private final long retryDelayMs = AppConfig.getLong("planit.writeBehind.retryDelayMs", 1000);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "planit-write-behind");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Map<Integer, Entry> pending = new LinkedHashMap<>();
+    private final Map<Integer, Entry> inFlight = new HashMap<>();
+    private boolean flushScheduled;
+
+    public CompletionWriteBehind(TodoRepository repository, FailureListener listener) {
+        this.repository = repository;
+        this.listener = listener;
+    }
+
+    /* EDT 에서 호출: todo 는 이미 새 값으로 바뀐 상태, original 은 바꾸기 전 값 */
+    public synchronized void enqueue(Todo todo, boolean original) {
+        Entry e = pending.get(todo.getId());
+        if (e != null) {
+            e.ui = todo;
+            e.target = todo.isCompleted();
+            if (e.target == e.original) {
+                pending.remove(todo.getId());   // 원래 값으로 돌아옴: 쓸 필요 없음
+            }
+            return;
+        }
+        if (todo.isCompleted() == original) return;
+
+        pending.put(todo.getId(), new Entry(todo, original));
+        scheduleFlush(windowMs);
+    }
+
+    /* 아직 DB 에 반영되지 않은 값을 새로 읽어 온 목록에 덮어씀 (EDT) */
+    public synchronized List<Todo> overlay(List<Todo> todos) {
+        if (pending.isEmpty() && inFlight.isEmpty()) return todos;
+        for (Todo t : todos) {
+            Entry e = pending.get(t.getId());
+            if (e == null) e = inFlight.get(t.getId());
+            if (e == null) continue;
+            t.setCompleted(e.target);
+            e.ui = t;
+        }
+        return todos;
+    }
+
+    /*
+     * EDT 에서 호출: ids 를 직접 저장하려는 쪽이 대기/진행 중인 토글을 넘겨받는다.
+     * 돌려준 id 들은 완료 값을 아직 DB 에 썼다고 볼 수 없으므로 호출자가 COMPLETED 도 함께 써야 한다.
+     */
+    public synchronized Set<Integer> discard(Collection<Integer> ids) {
+        Set<Integer> taken = new HashSet<>();
+        for (Integer id : ids) {
+            if (pending.remove(id) != null) {
+                taken.add(id);
+            }
+            Entry e = inFlight.get(id);
+            if (e != null) {
+                e.superseded = true;
+                taken.add(id);
+            }
+        }
+        return taken;
+    }
+
+    /* 작업 스레드에서 호출: ids 중 지금 쓰고 있는 배치가 끝날 때까지 기다린다 */
+    public synchronized void awaitWritten(Collection<Integer> ids) throws InterruptedException {
+        while (ids.stream().anyMatch(inFlight::containsKey)) {
+            wait();
+        }
+    }
+
+    private void scheduleFlush(long delayMs) {
+        if (flushScheduled || scheduler.isShutdown()) return;
+        flushScheduled = true;
+        scheduler.schedule(this::flush, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        List<Entry> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) return;
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+            for (Entry e : batch) {
+                inFlight.put(e.ui.getId(), e);
+            }
+        }
+
+        List<Todo> rows = new ArrayList<>(batch.size());
+        for (Entry e : batch) {
+            rows.add(e.toRow());
+        }
+
+        try {
+            repository.updateFieldsAll(rows);
+            synchronized (this) {
+                for (Entry e : batch) {
+                    inFlight.remove(e.ui.getId(), e);
+                }
+                notifyAll();
+            }
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                batch.removeIf(e -> e.superseded && inFlight.remove(e.ui.getId(), e));
+                notifyAll();
+            }
+            if (batch.isEmpty()) return;
+            if (isTransient(ex) && batch.get(0).attempts < maxRetries) {
+                requeue(batch);
+            } else {
+                SwingUtilities.invokeLater(() -> revert(batch, ex));
+            }
+        }
+    }
+
+    // 실패한 항목을 다시 큐에 넣는다. 그사이 같은 id 가 또 눌렸으면 DB 값(original)만 이어받게 합침
+    private synchronized void requeue(List<Entry> batch) {
+        int attempts = batch.get(0).attempts + 1;
+        for (Entry e : batch) {
+            inFlight.remove(e.ui.getId(), e);
+            if (e.superseded) continue;
+            e.attempts = attempts;
+            Entry newer = pending.get(e.ui.getId());
+            if (newer == null) {
+                pending.put(e.ui.getId(), e);
+            } else {
+                newer.original = e.original;
+                newer.attempts = attempts;
+                if (newer.target == newer.original) {
+                    pending.remove(e.ui.getId());
+                }
+            }
+        }
+        notifyAll();
+        long delay = retryDelayMs << Math.min(attempts - 1, 10);
+        System.err.println("완료 상태 저장 재시도 " + attempts + "/" + maxRetries + " (" + delay + "ms 후)");
+        scheduleFlush(delay);
+    }
+
+    private void revert(List<Entry> batch, Throwable error) {
+        List<Todo> reverted = new ArrayList<>();
+        synchronized (this) {
+            for (Entry e : batch) {
+                inFlight.remove(e.ui.getId(), e);
+                Entry newer = pending.get(e.ui.getId());
+                if (newer != null) {
+                    // 실패 후 다시 눌린 값은 살려 두고 그 값으로 한 번 더 시도
+                    newer.original = e.original;
+                    if (newer.target == newer.original) {
+                        pending.remove(e.ui.getId());
+                    }
+                    continue;
+                }
+                if (e.superseded) continue;
+                e.ui.setCompleted(e.original);
+                e.ui.clearDirty(Todo.Field.COMPLETED);   // 다른 필드의 편집 내역은 그대로 둔다
+                reverted.add(e.ui);
+            }
+            notifyAll();
+        }
+        if (!reverted.isEmpty()) {
+            listener.onPermanentFailure(reverted, error);
+        }
+    }
+
+    private static boolean isTransient(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLTransientException || t instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (t instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("08") || sql.getSQLState().startsWith("40"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* 종료 시: 남은 변경을 호출 스레드에서 바로 쓰고 스케줄러를 멈춘다 */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("완료 상태 저장 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package controller;
+
+import dao.InFlightCalls;
+import util.AppConfig;
+import util.Metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * EDT 멈춤 감지기.
+ * 시스템 EventQueue 위에 시간을 재는 큐를 올려 이벤트마다 처리 시간을 기록하고(edt.dispatch),
+ * 감시 스레드가 stallMs 를 넘긴 이벤트를 발견하면 "멈춰 있는 그 순간" 의 EDT 스택, 이벤트 대상 컴포넌트,
+ * 진행 중인 DAO 호출을 링 버퍼에 남긴다. 끝나면 전체 소요 시간을 채운다.
+ * 시간은 이벤트가 EDT 를 직접 붙잡고 있던 만큼만 센다: 모달 대화상자처럼 안쪽 이벤트 루프가 돌면
+ * 다음 이벤트를 기다리는 시간과 안쪽 이벤트를 처리한 시간은 바깥 이벤트에서 뺀다.
+ */
+public final class EdtWatchdog implements EdtWatchdogMXBean {
+
+    private static final int MAX_STACK_DEPTH = 64;
+
+    static final class Stall {
+        final LocalDateTime at = LocalDateTime.now();
+        final String event;
+        final String component;
+        final List<String> daoCalls;
+        final StackTraceElement[] stack;
+        volatile long durationMs = -1;   // 아직 처리 중이면 -1
+
+        Stall(String event, String component, List<String> daoCalls, StackTraceElement[] stack) {
+            this.event = event;
+            this.component = component;
+            this.daoCalls = daoCalls;
+            this.stack = stack;
+        }
+    }
+
+    // 처리 중인 이벤트 하나 (중첩 디스패치면 스택으로 쌓인다)
+    private static final class Dispatch {
+        final AWTEvent event;
+        final Thread thread = Thread.currentThread();
+        volatile long since = System.nanoTime();   // 지금 직접 처리 중인 구간의 시작
+        volatile long busyNanos;                   // 앞서 끝난 구간들의 합
+        volatile Stall stall;
+
+        Dispatch(AWTEvent event) {
+            this.event = event;
+        }
+
+        // 안쪽 루프로 넘어감 (대기 또는 안쪽 이벤트)
+        void pause(long now) {
+            busyNanos += now - since;
+        }
+
+        void resume(long now) {
+            since = now;
+        }
+
+        long busy(long now) {
+            return busyNanos + (now - since);
+        }
+    }
+
+    private final long thresholdMs = AppConfig.getLong("planit.edt.stallMs", 250);
+    private final int capacity = Math.max(1, AppConfig.getInt("planit.edt.ringSize", 32));
+    private final Path dumpFile = Path.of(AppConfig.getString("planit.edt.dumpFile",
+            System.getProperty("user.home") + "/.planit/edt-stalls.txt"));
+
+    private final Stall[] ring = new Stall[capacity];
+    private int next;
+    private final AtomicLong stallCount = new AtomicLong();
+
+    private volatile Dispatch current;   // 가장 안쪽에서 처리 중인 이벤트
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "planit-edt-watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static EdtWatchdog installed;
+
+    private EdtWatchdog() {
+    }
+
+    /* 앱 시작 시 한 번 (planit.edt.watchdog=false 면 설치하지 않음) */
+    public static synchronized EdtWatchdog install() {
+        if (installed != null || !AppConfig.getBoolean("planit.edt.watchdog", true)) return installed;
+
+        EdtWatchdog w = new EdtWatchdog();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(w.new TimedEventQueue());
+        long period = Math.max(10, w.thresholdMs / 4);
+        w.scheduler.scheduleAtFixedRate(w::check, period, period, TimeUnit.MILLISECONDS);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(w, new ObjectName("planit:type=EdtWatchdog"));
+        } catch (JMException e) {
+            System.err.println("EDT 감시 JMX 등록 실패: " + e.getMessage());
+        }
+        if (AppConfig.getBoolean("planit.edt.dumpOnExit", true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (w.stallCount.get() > 0) w.dumpTo(w.dumpFile);
+            }, "planit-edt-dump"));
+        }
+        installed = w;
+        return w;
+    }
+
+    /* ===== EDT 쪽 ===== */
+
+    private final class TimedEventQueue extends EventQueue {
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            Dispatch outer = current;
+            Dispatch d = new Dispatch(event);
+            current = d;
+            if (outer != null) {
+                outer.pause(d.since);
+            }
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long now = System.nanoTime();
+                long busy = d.busy(now);
+                if (outer != null) {
+                    outer.resume(now);
+                }
+                current = outer;
+                Metrics.latency("edt.dispatch").record(busy);
+                Stall stall = d.stall;
+                if (stall != null) {
+                    stall.durationMs = TimeUnit.NANOSECONDS.toMillis(busy);
+                }
+            }
+        }
+
+        // 모달 루프가 다음 이벤트를 기다리는 동안에는 처리 중인 이벤트가 없는 것으로 본다
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            Dispatch d = current;
+            if (d == null) return super.getNextEvent();
+
+            current = null;
+            d.pause(System.nanoTime());
+            try {
+                return super.getNextEvent();
+            } finally {
+                d.resume(System.nanoTime());
+                current = d;
+            }
+        }
+    }
+
+    /* ===== 감시 스레드 ===== */
+
+    private void check() {
+        Dispatch d = current;
+        if (d == null || d.stall != null) return;
+        if (TimeUnit.NANOSECONDS.toMillis(d.busy(System.nanoTime())) < thresholdMs) return;
+
+        StackTraceElement[] stack = d.thread.getStackTrace();
+        if (current != d) return;   // 스택을 뜨는 사이 끝남
+
+        List<String> dao = new ArrayList<>();
+        String onEdt = InFlightCalls.on(d.thread);
+        if (onEdt != null) {
+            dao.add("EDT: " + onEdt);
+        }
+        for (String call : InFlightCalls.all()) {
+            if (!call.startsWith(d.thread.getName() + ": ")) dao.add(call);
+        }
+
+        Stall stall = new Stall(describe(d.event), componentOf(d.event), dao, trim(stack));
+        d.stall = stall;
+        stallCount.incrementAndGet();
+        Metrics.increment("edt.stalls");
+        synchronized (ring) {
+            ring[next] = stall;
+            next = (next + 1) % capacity;
+        }
+    }
+
+    private static String describe(AWTEvent event) {
+        String s = event.getClass().getSimpleName() + " " + event.paramString();
+        return (s.length() > 300) ? s.substring(0, 300) + "…" : s;
+    }
+
+    private static String componentOf(AWTEvent event) {
+        if (!(event.getSource() instanceof Component c)) return "-";
+        StringBuilder sb = new StringBuilder(c.getClass().getName());
+        if (c.getName() != null) sb.append('[').append(c.getName()).append(']');
+        for (Component p = c.getParent(); p != null; p = p.getParent()) {
+            sb.append(" < ").append(p.getClass().getSimpleName());
+        }
+        return sb.toString();
+    }
+
+    private static StackTraceElement[] trim(StackTraceElement[] stack) {
+        if (stack.length <= MAX_STACK_DEPTH) return stack;
+        StackTraceElement[] top = new StackTraceElement[MAX_STACK_DEPTH];
+        System.arraycopy(stack, 0, top, 0, MAX_STACK_DEPTH);
+        return top;
+    }
+
+    /* ===== 덤프 ===== */
+
+    // 오래된 것부터
+    private List<Stall> snapshot() {
+        List<Stall> result = new ArrayList<>();
+        synchronized (ring) {
+            for (int i = 0; i < capacity; i++) {
+                Stall s = ring[(next + i) % capacity];
+                if (s != null) result.add(s);
+            }
+        }
+        return result;
+    }
+
+    private String format() {
+        StringBuilder sb = new StringBuilder();
+        for (Stall s : snapshot()) {
+            sb.append("=== EDT stall ").append(s.at).append(" (")
+                    .append(s.durationMs < 0 ? "still running" : s.durationMs + "ms").append(") ===\n");
+            sb.append("event: ").append(s.event).append('\n');
+            sb.append("component: ").append(s.component).append('\n');
+            sb.append("dao: ").append(s.daoCalls.isEmpty() ? "-" : String.join(", ", s.daoCalls)).append('\n');
+            for (StackTraceElement e : s.stack) {
+                sb.append("    at ").append(e).append('\n');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    public Path dumpTo(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, format(), StandardCharsets.UTF_8);
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException("EDT 멈춤 기록 저장 실패", e);
+        }
+    }
+
+    @Override
+    public long getStallCount() {
+        return stallCount.get();
+    }
+
+    @Override
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    @Override
+    public String getRecentStalls() {
+        return format();
+    }
+
+    @Override
+    public String dumpToFile(String path) {
+        return dumpTo(path == null || path.isBlank() ? dumpFile : Path.of(path)).toString();
+    }
+}
@@ -0,0 +1,14 @@
+package controller;
+
+/* JMX: planit:type=EdtWatchdog */
+public interface EdtWatchdogMXBean {
+
+    long getStallCount();
+
+    long getThresholdMs();
+
+    String getRecentStalls();
+
+    /* 링 버퍼를 파일에 쓰고 경로를 돌려준다 (빈 문자열이면 planit.edt.dumpFile) */
+    String dumpToFile(String path);
+}
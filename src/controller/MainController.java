@@ -1,26 +1,82 @@
 package controller;
 
-import dao.TodoDAO;
+import dao.CachedTodoRepository;
+import dao.ReplicaTodoRepository;
+import dao.SyncStatus;
+import dao.TodoRepository;
+import model.DaySummary;
 import model.FilterOptions;
 import model.Todo;
+import util.AppConfig;
+import util.Metrics;
+import util.TextUtils;
 import view.CalendarViewPanel;
+import view.SyncStatusLabel;
 import view.TodoListViewPanel;
 
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class MainController {
 
-    private final TodoDAO todoDAO;
+    private final TodoRepository todoRepository;
+    private final TaskRunner tasks = new TaskRunner();
+    private final MonthPrefetcher prefetcher;
+    private final CompletionWriteBehind completionWriter;
 
     private CalendarViewPanel calendarView;
     private TodoListViewPanel listView;
+    private SyncStatusLabel syncStatusView;
 
     private LocalDate currentDate;
-    private FilterOptions lastFilter; 
+    private FilterOptions lastFilter;
 
-    public MainController(TodoDAO todoDAO) {
-        this.todoDAO = todoDAO;
+    // 가장 최근에 요청한 목록/달력 로딩 (새 요청이 오면 이전 것은 취소)
+    private CompletableFuture<List<Todo>> pendingListLoad;
+    private CompletableFuture<Map<LocalDate, DaySummary>> pendingMonthLoad;
+    private CompletableFuture<List<Todo>> pendingPageLoad;
+
+    // 검색 결과는 페이지 단위로 읽는다. filterCursor 는 마지막으로 읽은 행 (다음 페이지의 키셋 기준)
+    private final int pageSize = AppConfig.getInt("planit.filter.pageSize", 200);
+    private Todo filterCursor;
+    private boolean filterHasMore;
+
+    public MainController(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+        this.prefetcher = new MonthPrefetcher(todoRepository);
+        this.completionWriter = new CompletionWriteBehind(todoRepository, this::onCompletionWriteFailed);
+
+        if (todoRepository instanceof ReplicaTodoRepository replica) {
+            replica.setSyncListener(new ReplicaTodoRepository.SyncListener() {
+                @Override
+                public void onStatus(SyncStatus status, int pendingCount) {
+                    SwingUtilities.invokeLater(() -> {
+                        if (syncStatusView != null) {
+                            syncStatusView.setStatus(status, pendingCount);
+                        }
+                    });
+                }
+
+                @Override
+                public void onRemoteChange(Set<LocalDate> dates) {
+                    SwingUtilities.invokeLater(() -> onRemoteChange(dates));
+                }
+            });
+        } else if (todoRepository instanceof CachedTodoRepository cache) {
+            cache.setChangeListener((dates, changed, deletedIds) ->
+                    SwingUtilities.invokeLater(() -> onPolledChanges(dates, changed, deletedIds)));
+        }
     }
 
     public void setCalendarView(CalendarViewPanel calendarView) {
@@ -31,93 +87,513 @@ public class MainController {
         this.listView = listView;
     }
 
+    public void setSyncStatusView(SyncStatusLabel syncStatusView) {
+        this.syncStatusView = syncStatusView;
+    }
+
+    /* ===== 오프라인 복제본 동기화 ===== */
+
+    public boolean isReplicated() {
+        return todoRepository instanceof ReplicaTodoRepository;
+    }
+
+    public void syncNow() {
+        if (todoRepository instanceof ReplicaTodoRepository replica) {
+            replica.syncNow();
+        }
+    }
+
+    // 서버 변경이 로컬에 반영됨 (EDT): 해당 날짜 요약을 다시 계산하고, 보고 있는 목록에 걸리면 다시 읽는다
+    private void onRemoteChange(Set<LocalDate> dates) {
+        long start = System.nanoTime();
+        reloadDaySummaries(dates);
+        if (currentDate != null ? dates.contains(currentDate) : lastFilter != null) {
+            reloadCurrentView();
+        }
+        Metrics.recordNanos("edt.onRemoteChange", start);
+    }
+
+    /* ===== 다른 클라이언트 변경 (ChangePoller) ===== */
+
+    // 캐시에는 이미 반영됨 (EDT): 날짜 요약만 다시 계산하고, 목록은 바뀐 행만 끼워 넣거나 뺀다
+    private void onPolledChanges(Set<LocalDate> dates, List<Todo> changed, Set<Integer> deletedIds) {
+        long start = System.nanoTime();
+        if (!dates.isEmpty()) {
+            reloadDaySummaries(dates);
+        }
+        if (listView == null) {
+            Metrics.recordNanos("edt.onPolledChanges", start);
+            return;
+        }
+
+        List<Todo> rows = completionWriter.overlay(changed);   // 아직 저장 전인 완료 토글은 화면 값 유지
+        Set<Integer> touched = new HashSet<>(deletedIds);
+        for (Todo t : rows) {
+            touched.add(t.getId());
+        }
+        boolean affectsList = false;
+        for (Todo t : listView.getTodos()) {
+            affectsList |= touched.contains(t.getId());
+        }
+        for (Todo t : rows) {
+            affectsList |= belongsToCurrentView(t);
+        }
+        if (affectsList) {
+            refreshListAfterBulk(touched, rows);
+        }
+        Metrics.recordNanos("edt.onPolledChanges", start);
+    }
+
+    private void reloadDaySummaries(Set<LocalDate> dates) {
+        CompletableFuture<Map<LocalDate, DaySummary>> load =
+                tasks.submit(() -> loadDaySummaries(dates.toArray(new LocalDate[0])));
+        load.whenComplete((days, error) -> {
+            if (error == null) {
+                applyDaySummaries(days);
+            }
+        });
+    }
+
     /* ===== 달력 날짜 클릭 ===== */
 
     public void onDateSelected(LocalDate date) {
+        long start = System.nanoTime();
         this.currentDate = date;
-        List<Todo> todos = todoDAO.findByDate(date);
-        if (listView != null) {
-            listView.showTodosForDate(date, todos);
-        }
+        loadList(() -> todoRepository.findByDate(date), todos -> listView.showTodosForDate(date, todos));
+        Metrics.recordNanos("edt.onDateSelected", start);
     }
 
     /* ===== 검색/필터 ===== */
 
     public void applyFilter(FilterOptions filter) {
+        long start = System.nanoTime();
         this.currentDate = null;
         this.lastFilter = filter;
-        List<Todo> todos = todoDAO.findByFilter(filter);
+        this.filterCursor = null;
+        this.filterHasMore = false;
+        loadList(() -> todoRepository.findPageByFilter(filter, null, pageSize + 1),
+                rows -> showFilterPage(rows, true));
+        Metrics.recordNanos("edt.applyFilter", start);
+    }
+
+    /*
+     * 입력 중 검색. 이전 결과를 다 읽어 둔 상태에서 키워드가 이전 키워드를 늘린 것이면
+     * DB 를 다시 조회하지 않고 현재 목록을 메모리에서 좁힌다. 그 외에는 일반 검색
+     * (진행 중이던 이전 검색은 applyFilter 에서 취소됨).
+     */
+    public void searchAsYouType(FilterOptions filter) {
+        long start = System.nanoTime();
+        if (canNarrowInMemory(filter)) {
+            this.lastFilter = filter;
+            List<Todo> narrowed = new ArrayList<>();
+            for (Todo t : listView.getTodos()) {
+                if (filter.matches(t)) {
+                    narrowed.add(t);
+                }
+            }
+            listView.showTodos(narrowed, false);
+        } else {
+            applyFilter(filter);
+        }
+        Metrics.recordNanos("edt.searchAsYouType", start);
+    }
+
+    private boolean canNarrowInMemory(FilterOptions filter) {
+        if (listView == null || currentDate != null || lastFilter == null) return false;
+        if (filterHasMore || pendingListLoad != null || pendingPageLoad != null) return false;
+        if (!filter.sameExceptKeyword(lastFilter)) return false;
+
+        String oldKw = lastFilter.getKeyword();
+        String newKw = filter.getKeyword();
+        if (oldKw == null || oldKw.isBlank() || newKw == null) return false;
+        if (!TextUtils.fold(newKw.trim()).contains(TextUtils.fold(oldKw.trim()))) return false;
+
+        // fold 로 SQL 정렬 규칙을 재현할 수 없는 글자가 있으면 메모리 판정이 DB 와 다를 수 있다
+        if (TextUtils.hasUnfoldableLetters(newKw)) return false;
+        for (Todo t : listView.getTodos()) {
+            if (TextUtils.hasUnfoldableLetters(t.getTitle()) || TextUtils.hasUnfoldableLetters(t.getDescription())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* 목록을 끝까지 스크롤하면 다음 페이지를 이어서 읽는다 */
+    public void loadMoreTodos() {
+        if (currentDate != null || lastFilter == null || !filterHasMore
+                || pendingPageLoad != null || pendingListLoad != null) {
+            return;
+        }
+        long start = System.nanoTime();
+
+        FilterOptions filter = lastFilter;
+        Todo after = filterCursor;
+        CompletableFuture<List<Todo>> load = tasks.submit(() -> todoRepository.findPageByFilter(filter, after, pageSize + 1));
+        pendingPageLoad = load;
+        load.whenComplete((rows, error) -> {
+            if (load != pendingPageLoad) return;
+            pendingPageLoad = null;
+            if (error != null) {
+                showError(error);
+            } else {
+                showFilterPage(completionWriter.overlay(rows), false);
+            }
+        });
+        Metrics.recordNanos("edt.loadMoreTodos", start);
+    }
+
+    // pageSize + 1 개를 요청해서 한 개가 더 오면 다음 페이지가 있다고 판단
+    private void showFilterPage(List<Todo> rows, boolean firstPage) {
+        filterHasMore = rows.size() > pageSize;
+        List<Todo> page = filterHasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        if (!page.isEmpty()) {
+            filterCursor = page.get(page.size() - 1).copy();
+        }
+
+        if (listView == null) return;
+        if (firstPage) {
+            listView.showTodos(page, filterHasMore);
+        } else {
+            listView.appendTodos(page, filterHasMore);
+        }
+    }
+
+    private void loadList(Callable<List<Todo>> query, Consumer<List<Todo>> show) {
+        if (pendingListLoad != null) {
+            pendingListLoad.cancel(false);
+        }
+        if (pendingPageLoad != null) {
+            pendingPageLoad.cancel(false);
+            pendingPageLoad = null;
+        }
         if (listView != null) {
-            listView.showTodos(todos);
+            listView.setLoading(true);
         }
+
+        CompletableFuture<List<Todo>> load = tasks.submit(query);
+        pendingListLoad = load;
+        load.whenComplete((todos, error) -> {
+            if (load != pendingListLoad) return;   // 더 새로운 요청으로 대체됨
+            pendingListLoad = null;
+            if (listView != null) {
+                listView.setLoading(false);
+            }
+            if (error != null) {
+                showError(error);
+            } else if (listView != null) {
+                show.accept(completionWriter.overlay(todos));
+            }
+        });
+    }
+
+    /* ===== 달력 요약 ===== */
+
+    public CompletableFuture<Map<LocalDate, DaySummary>> loadMonthSummary(LocalDate month) {
+        if (pendingMonthLoad != null) {
+            pendingMonthLoad.cancel(false);
+        }
+        CompletableFuture<Map<LocalDate, DaySummary>> load = tasks.submit(() -> todoRepository.getMonthSummary(month));
+        pendingMonthLoad = load;
+        load.whenComplete((summary, error) -> {
+            if (load == pendingMonthLoad) {
+                pendingMonthLoad = null;
+            }
+            if (error != null) {
+                showError(error);
+            }
+        });
+        return load;
+    }
+
+    /* 캐시에 있으면 바로 반환 (EDT 에서 호출해도 DB 접근 없음), 없으면 null */
+    public Map<LocalDate, DaySummary> peekMonthSummary(LocalDate month) {
+        if (todoRepository instanceof CachedTodoRepository cache) {
+            return cache.peekMonthSummary(month);
+        }
+        return null;
+    }
+
+    public void prefetchAround(LocalDate month) {
+        prefetcher.prefetchAround(month);
     }
 
     /* ===== Todo 저장/삭제/완료 ===== */
 
+    public CompletableFuture<Void> saveTodo(Todo todo) {
+        long start = System.nanoTime();
+        List<Integer> ids = List.of(todo.getId());
+        if (todo.getId() != 0 && !completionWriter.discard(ids).isEmpty()) {
+            todo.markDirty(Todo.Field.COMPLETED);   // 넘겨받은 완료 토글도 이 저장으로 쓴다
+        }
+        CompletableFuture<Map<LocalDate, DaySummary>> save = tasks.submit(() -> {
+            LocalDate previousDate = null;
+            if (todo.getId() == 0) {
+                todoRepository.insert(todo);
+            } else {
+                completionWriter.awaitWritten(ids);
+                // 날짜가 바뀐 경우에만 이전 날짜를 조회 (이전 날짜 칸의 요약도 다시 계산해야 함)
+                if (todo.getDirtyFields().contains(Todo.Field.DATE)) {
+                    Todo before = todoRepository.findById(todo.getId());
+                    previousDate = (before != null) ? before.getDate() : null;
+                }
+                todoRepository.updateFields(todo);
+            }
+            return loadDaySummaries(previousDate, todo.getDate());
+        });
+        save.whenComplete((days, error) -> {
+            if (error != null) {
+                showError(error);
+                return;
+            }
+            applyDaySummaries(days);
+            applyTodoChange(todo);
+        });
+        Metrics.recordNanos("edt.saveTodo", start);
+        return save.thenApply(days -> null);
+    }
+
+    public CompletableFuture<Void> deleteTodo(Todo todo) {
+        if (todo == null || todo.getId() == 0) return CompletableFuture.completedFuture(null);
+        long start = System.nanoTime();
+        completionWriter.discard(List.of(todo.getId()));
+
+        CompletableFuture<Map<LocalDate, DaySummary>> delete = tasks.submit(() -> {
+            Todo before = todoRepository.findById(todo.getId());
+            LocalDate date = (before != null) ? before.getDate() : todo.getDate();
+            todoRepository.delete(todo.getId());
+            return loadDaySummaries(date, null);
+        });
+        delete.whenComplete((days, error) -> {
+            if (error != null) {
+                showError(error);
+                return;
+            }
+            applyDaySummaries(days);
+            if (listView != null) {
+                listView.removeTodo(todo.getId());
+            }
+        });
+        Metrics.recordNanos("edt.deleteTodo", start);
+        return delete.thenApply(days -> null);
+    }
+
+    /* ===== 변경분만 화면에 반영 ===== */
+
+    // 백그라운드 스레드에서 호출: 바뀐 날짜들의 요약만 다시 계산 (값이 null 이면 그날 일정 없음)
+    private Map<LocalDate, DaySummary> loadDaySummaries(LocalDate... dates) {
+        Map<LocalDate, DaySummary> result = new HashMap<>();
+        for (LocalDate d : dates) {
+            if (d != null && !result.containsKey(d)) {
+                result.put(d, todoRepository.getDaySummary(d));
+            }
+        }
+        return result;
+    }
+
+    private void applyDaySummaries(Map<LocalDate, DaySummary> days) {
+        if (calendarView == null) return;
+        for (Map.Entry<LocalDate, DaySummary> e : days.entrySet()) {
+            calendarView.updateDay(e.getKey(), e.getValue());
+        }
+    }
+
+    // 저장된 Todo 를 현재 목록의 정렬/필터 기준에 맞춰 삽입·갱신·제거
+    private void applyTodoChange(Todo todo) {
+        if (listView == null) return;
+
+        if (currentDate != null) {
+            if (currentDate.equals(todo.getDate())) {
+                listView.upsertTodo(todo, Todo.BY_PRIORITY_ID);
+            } else {
+                onDateSelected(todo.getDate());   // 다른 날짜로 옮겨졌으면 그 날짜 목록으로 이동
+            }
+        } else if (lastFilter != null) {
+            if (belongsToCurrentView(todo)) {
+                listView.upsertTodo(todo, Todo.BY_PRIORITY_DATE_ID);
+            } else {
+                listView.removeTodo(todo.getId());
+            }
+        } else if (todo.getDate() != null) {
+            onDateSelected(todo.getDate());
+        }
+    }
+
+    /* ===== 여러 개 선택 후 일괄 작업 (한 번의 배치 쓰기 + 한 번의 화면 갱신) ===== */
+
+    public CompletableFuture<Void> setCompletedAll(List<Todo> todos, boolean completed) {
+        return applyBulk(todos, t -> t.setCompleted(completed));
+    }
 
-	public boolean hasTodoOn(LocalDate date) {
-	    return todoDAO.existsByDate(date);
-	}
+    public CompletableFuture<Void> rescheduleAll(List<Todo> todos, LocalDate date) {
+        return applyBulk(todos, t -> t.setDate(date));
+    }
 
-	public Integer getHighestPriorityForDate(LocalDate date) {
-	    return todoDAO.getHighestPriorityForDate(date);
-	}
+    public CompletableFuture<Void> changePriorityAll(List<Todo> todos, int priority) {
+        return applyBulk(todos, t -> t.setPriority(priority));
+    }
 
-	public void saveTodo(Todo todo) {
-	    if (todo.getId() == 0) {
-	        todoDAO.insert(todo);
-	    } else {
-	        todoDAO.update(todo);
-	    }
+    public CompletableFuture<Void> deleteAll(List<Todo> todos) {
+        if (todos == null || todos.isEmpty()) return CompletableFuture.completedFuture(null);
+        long start = System.nanoTime();
 
-	    if (calendarView != null) {
-	        calendarView.refresh();
-	    }
+        Set<Integer> ids = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (Todo t : todos) {
+            ids.add(t.getId());
+            dates.add(t.getDate());
+        }
+        completionWriter.discard(ids);
 
-	    if (todo.getDate() != null) {
-	        onDateSelected(todo.getDate());
-	    } else if (lastFilter != null) {
-	        applyFilter(lastFilter);
-	    }
-	}
+        CompletableFuture<Map<LocalDate, DaySummary>> delete = tasks.submit(() -> {
+            todoRepository.deleteAll(ids);
+            return loadDaySummaries(dates.toArray(new LocalDate[0]));
+        });
+        delete.whenComplete((days, error) -> {
+            if (error != null) {
+                showError(error);
+                reloadCurrentView();
+                return;
+            }
+            applyDaySummaries(days);
+            refreshListAfterBulk(ids, List.of());
+        });
+        Metrics.recordNanos("edt.deleteAll", start);
+        return delete.thenApply(days -> null);
+    }
 
-	public void deleteTodo(Todo todo) {
-	    if (todo == null || todo.getId() == 0) return;
+    // 화면의 Todo 는 건드리지 않고 복사본을 고쳐서 저장. 실패하면 화면은 그대로 두고 다시 읽는다
+    private CompletableFuture<Void> applyBulk(List<Todo> todos, Consumer<Todo> change) {
+        if (todos == null || todos.isEmpty()) return CompletableFuture.completedFuture(null);
+        long start = System.nanoTime();
 
-	    todoDAO.delete(todo.getId());
+        List<Todo> changed = new ArrayList<>(todos.size());
+        Set<Integer> ids = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (Todo t : todos) {
+            Todo copy = t.copy();
+            change.accept(copy);
+            changed.add(copy);
+            ids.add(copy.getId());
+            dates.add(t.getDate());
+            dates.add(copy.getDate());
+        }
+        Set<Integer> taken = completionWriter.discard(ids);
+        for (Todo copy : changed) {
+            if (taken.contains(copy.getId())) copy.markDirty(Todo.Field.COMPLETED);
+        }
 
-	    if (calendarView != null) {
-	        calendarView.refresh();
-	    }
+        CompletableFuture<Map<LocalDate, DaySummary>> update = tasks.submit(() -> {
+            completionWriter.awaitWritten(ids);
+            todoRepository.updateFieldsAll(changed);
+            return loadDaySummaries(dates.toArray(new LocalDate[0]));
+        });
+        update.whenComplete((days, error) -> {
+            if (error != null) {
+                showError(error);
+                reloadCurrentView();
+                return;
+            }
+            applyDaySummaries(days);
+            refreshListAfterBulk(ids, changed);
+        });
+        Metrics.recordNanos("edt.applyBulk", start);
+        return update.thenApply(days -> null);
+    }
+
+    // 바뀐 행을 빼고, 현재 화면 조건에 여전히 맞는 것만 정렬 위치에 다시 넣어 한 번에 교체
+    private void refreshListAfterBulk(Set<Integer> touchedIds, List<Todo> changed) {
+        if (listView == null) return;
+
+        List<Todo> next = new ArrayList<>();
+        for (Todo t : listView.getTodos()) {
+            if (!touchedIds.contains(t.getId())) {
+                next.add(t);
+            }
+        }
+        for (Todo t : changed) {
+            if (belongsToCurrentView(t)) {
+                next.add(t);
+            }
+        }
+        next.sort(currentDate != null ? Todo.BY_PRIORITY_ID : Todo.BY_PRIORITY_DATE_ID);
+        listView.replaceTodos(next);
+    }
 
-	    if (lastFilter != null) {
-	        applyFilter(lastFilter);
-	    } else if (todo.getDate() != null) {
-	        onDateSelected(todo.getDate());
-	    } else {
-	        FilterOptions f = new FilterOptions();
-	        listView.showTodos(todoDAO.findByFilter(f));
-	    }
-	}
+    private boolean belongsToCurrentView(Todo todo) {
+        if (currentDate != null) {
+            return currentDate.equals(todo.getDate());
+        }
+        if (lastFilter == null || !lastFilter.matches(todo)) return false;
+        // 아직 안 읽은 페이지 범위에 들어가는 행은 나중에 스크롤로 읽히므로 지금 넣지 않는다
+        return !filterHasMore || filterCursor == null
+                || Todo.BY_PRIORITY_DATE_ID.compare(todo, filterCursor) <= 0;
+    }
 
+    /* 화면은 바로 바꾸고 DB 쓰기는 write-behind 큐가 모아서 처리 */
     public void updateTodoCompleted(Todo todo, boolean completed) {
-        if (todo == null || todo.getId() == 0) return;
+        if (todo == null || todo.getId() == 0 || todo.isCompleted() == completed) return;
+        long start = System.nanoTime();
+        boolean original = todo.isCompleted();
         todo.setCompleted(completed);
-        todoDAO.update(todo);
+        completionWriter.enqueue(todo, original);
+        Metrics.recordNanos("edt.updateTodoCompleted", start);
+    }
+
+    // write-behind 가 끝내 저장하지 못한 경우 (EDT): 값은 이미 되돌려졌으므로 알리고 목록을 다시 읽는다
+    private void onCompletionWriteFailed(List<Todo> reverted, Throwable error) {
+        Throwable cause = (error.getCause() != null) ? error.getCause() : error;
+        JOptionPane.showMessageDialog(
+                listView != null ? SwingUtilities.getWindowAncestor(listView) : null,
+                "완료 상태 " + reverted.size() + "건을 저장하지 못해 이전 상태로 되돌렸습니다.\n" + cause.getMessage(),
+                "저장 실패",
+                JOptionPane.WARNING_MESSAGE
+        );
+        reloadCurrentView();
+    }
+
+    private void reloadCurrentView() {
+        if (currentDate != null) {
+            onDateSelected(currentDate);
+        } else if (lastFilter != null) {
+            applyFilter(lastFilter);
+        }
+    }
+
+    private void showError(Throwable error) {
+        if (error instanceof CancellationException) return;
+        Throwable cause = (error.getCause() != null) ? error.getCause() : error;
+        JOptionPane.showMessageDialog(
+                listView != null ? SwingUtilities.getWindowAncestor(listView) : null,
+                error.getMessage() + (cause != error ? "\n" + cause.getMessage() : ""),
+                "데이터베이스 오류",
+                JOptionPane.ERROR_MESSAGE
+        );
     }
 
     public LocalDate getCurrentDate() {
         return currentDate;
     }
-    
+
+
+    /* 창을 닫을 때: 모아 둔 완료 상태를 마저 쓰고 백그라운드 작업 정리 */
+    public void shutdown() {
+        completionWriter.close();
+        prefetcher.close();
+        tasks.close();
+    }
 
     public void onThemeChanged() {
+        long start = System.nanoTime();
         if (calendarView != null) {
-            calendarView.refresh();
+            calendarView.applyTheme();
         }
         if (listView != null) {
             listView.applyTheme();
         }
+        if (syncStatusView != null) {
+            syncStatusView.applyTheme();
+        }
+        Metrics.recordNanos("edt.onThemeChanged", start);
     }
 
 }
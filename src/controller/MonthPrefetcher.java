@@ -0,0 +1,68 @@
+package controller;
+
+import dao.CachedTodoRepository;
+import dao.TodoRepository;
+
+import java.time.LocalDate;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 달력에 M 월이 그려지면 M-1, M+1 월을 백그라운드에서 미리 캐시에 올린다.
+ * 큐는 작게 유지하고 넘치면 가장 오래된 요청을 버리므로, 연타해도 지난 달 로딩이 쌓이지 않는다.
+ */
+public class MonthPrefetcher implements AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 2;
+
+    private final TodoRepository repository;
+    private final ThreadPoolExecutor executor;
+
+    // 가장 최근에 화면에 표시된 달. 큐에서 꺼낼 때 이 달과 멀어진 요청은 건너뛴다
+    private volatile LocalDate center;
+
+    public MonthPrefetcher(TodoRepository repository) {
+        this.repository = repository;
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                r -> {
+                    Thread t = new Thread(r, "planit-prefetch");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    public void prefetchAround(LocalDate month) {
+        LocalDate first = month.withDayOfMonth(1);
+        center = first;
+        submit(first.plusMonths(1));
+        submit(first.minusMonths(1));
+    }
+
+    private void submit(LocalDate month) {
+        if (isCached(month)) return;
+        executor.execute(() -> {
+            LocalDate c = center;
+            if (c == null || Math.abs(c.until(month).toTotalMonths()) > 1 || isCached(month)) {
+                return;   // 이미 다른 달로 넘어갔거나 누가 먼저 읽어 옴
+            }
+            try {
+                repository.getMonthSummary(month);
+            } catch (RuntimeException e) {
+                System.err.println("월 미리 읽기 실패: " + month + " (" + e.getMessage() + ")");
+            }
+        });
+    }
+
+    private boolean isCached(LocalDate month) {
+        return repository instanceof CachedTodoRepository cache && cache.isMonthLoaded(month);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,53 @@
+package controller;
+
+import util.Cancellation;
+import util.Metrics;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * DB 작업을 EDT 밖(가상 스레드)에서 실행하고, 결과는 EDT 에서 완료되는 CompletableFuture 로 돌려준다.
+ * 반환된 future 를 cancel 하면 작업의 취소 플래그만 세운다 (util.Cancellation).
+ * 스레드를 인터럽트하지 않는 이유: 소켓을 기다리던 가상 스레드가 인터럽트되면 풀 커넥션이 닫힌다.
+ * EDT 에서 완료 콜백(화면 갱신)에 걸린 시간은 edt.taskCompletion 으로 기록한다.
+ */
+public class TaskRunner implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public <T> CompletableFuture<T> submit(Callable<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        executor.execute(() -> {
+            try {
+                T value = Cancellation.run(cancelled, work);
+                SwingUtilities.invokeLater(() -> Metrics.record("edt.taskCompletion", () -> result.complete(value)));
+            } catch (Throwable t) {
+                SwingUtilities.invokeLater(() -> Metrics.record("edt.taskCompletion", () -> result.completeExceptionally(t)));
+            }
+        });
+        result.whenComplete((v, e) -> {
+            if (result.isCancelled()) {
+                cancelled.set(true);
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<Void> run(Runnable work) {
+        return submit(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,598 @@
+package dao;
+
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+import util.AppConfig;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * TodoRepository 앞단의 write-through 캐시.
+ * 월 단위로 통째로 읽어 와 id 맵 + 날짜 인덱스에 보관하고, 오래 안 쓴 달부터 LRU 로 내보낸다.
+ * 밖으로 내보내는 Todo 는 항상 복사본이라 뷰에서 값을 바꿔도 캐시가 오염되지 않는다.
+ */
+public class CachedTodoRepository implements TodoRepository {
+
+    /* 다른 클라이언트의 변경이 캐시에 반영된 뒤 호출 (폴러 스레드). dates 는 캐시에 올라와 있는 달의 날짜만 */
+    public interface ChangeListener {
+        void onRemoteChanges(Set<LocalDate> dates, List<Todo> changed, Set<Integer> deletedIds);
+    }
+
+    private final TodoRepository delegate;
+    private final int maxMonths;
+    // 조건 검색에 답하려고 새로 올려도 되는 범위(달 수). 더 넓은 범위는 이미 다 올라와 있을 때만 메모리에서 답한다
+    private final int filterLoadMonths = AppConfig.getInt("planit.cache.filterLoadMonths", 2);
+
+    private final Map<Integer, Todo> byId = new HashMap<>();
+    private final NavigableMap<LocalDate, Map<Integer, Todo>> byDate = new TreeMap<>();
+    private final LinkedHashMap<YearMonth, Boolean> loadedMonths = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 키워드 → 후보 id. 후보가 이보다 많으면 IN 목록 대신 LIKE 만으로 검색
+    private static final int MAX_CANDIDATE_IDS = 1000;
+    private static final int INDEX_BUILD_PAGE = 1000;
+
+    // 달을 올리려다 밀려나거나(LRU 경쟁) 도중 쓰기가 끼어들면 다시 읽는 횟수. 넘으면 delegate 로 바로 조회
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private final AtomicInteger keywordIndexBuild = new AtomicInteger();
+    private volatile boolean keywordIndexReady;
+    // 다른 클라이언트의 쓰기는 폴러를 통해서만 색인에 들어온다. 좁히기 전에 이걸로 밀린 변경을 따라잡는다
+    private volatile Runnable keywordCatchUp;
+
+    private volatile ChangeListener changeListener;
+
+    // 쓰기가 일어날 때마다 증가. 월 로딩 도중 쓰기가 끼어들었는지 판단하는 데 사용
+    private long modCount;
+
+    // 메모리에서 답한 마지막 조건의 정렬 결과 (캐시 항목은 교체만 되고 고쳐지지 않으므로 참조를 그대로 둔다).
+    // 같은 조건의 다음 페이지는 여기서 커서 위치를 이분 탐색한다. 쓰기가 있으면(modCount) 새로 만든다
+    private FilterOptions snapshotFilter;
+    private long snapshotStamp;
+    private List<Todo> snapshot;
+
+    public CachedTodoRepository(TodoRepository delegate, int maxMonths) {
+        this.delegate = delegate;
+        this.maxMonths = Math.max(1, maxMonths);
+    }
+
+    /* ===== 쓰기 (DB 먼저, 성공하면 캐시 반영) ===== */
+
+    @Override
+    public void insert(Todo todo) {
+        delegate.insert(todo);
+        keywordIndex.put(todo.getId(), todo.getTitle(), todo.getDescription());
+        synchronized (this) {
+            modCount++;
+            index(todo.copy());
+        }
+    }
+
+    @Override
+    public void update(Todo todo) {
+        delegate.update(todo);
+        keywordIndex.put(todo.getId(), todo.getTitle(), todo.getDescription());
+        synchronized (this) {
+            modCount++;
+            unindex(todo.getId());
+            index(todo.copy());
+        }
+    }
+
+    @Override
+    public void updateFields(Todo todo) {
+        Set<Todo.Field> fields = todo.getDirtyFields();   // delegate 가 저장 후 지움
+        delegate.updateFields(todo);
+        afterPartialWrite(List.of(todo), List.of(fields));
+    }
+
+    @Override
+    public void delete(int id) {
+        delegate.delete(id);
+        keywordIndex.remove(id);
+        synchronized (this) {
+            modCount++;
+            unindex(id);
+        }
+    }
+
+    @Override
+    public void insertAll(List<Todo> todos) {
+        delegate.insertAll(todos);
+        afterWrite(todos);
+    }
+
+    @Override
+    public void updateAll(List<Todo> todos) {
+        delegate.updateAll(todos);
+        afterWrite(todos);
+    }
+
+    @Override
+    public void updateFieldsAll(List<Todo> todos) {
+        List<Set<Todo.Field>> fields = new ArrayList<>(todos.size());
+        for (Todo t : todos) {
+            fields.add(t.getDirtyFields());
+        }
+        delegate.updateFieldsAll(todos);
+        afterPartialWrite(todos, fields);
+    }
+
+    @Override
+    public void deleteAll(Collection<Integer> ids) {
+        delegate.deleteAll(ids);
+        for (Integer id : ids) {
+            keywordIndex.remove(id);
+        }
+        synchronized (this) {
+            modCount++;
+            for (Integer id : ids) {
+                unindex(id);
+            }
+        }
+    }
+
+    private void afterWrite(List<Todo> todos) {
+        for (Todo t : todos) {
+            keywordIndex.put(t.getId(), t.getTitle(), t.getDescription());
+        }
+        synchronized (this) {
+            modCount++;
+            for (Todo t : todos) {
+                unindex(t.getId());
+                index(t.copy());
+            }
+        }
+    }
+
+    /*
+     * 부분 UPDATE 는 DB 에 쓴 컬럼만 캐시 항목에 덮어쓴다 (호출자의 나머지 필드가 오래된 값일 수 있음).
+     * 캐시에 없던 행은 넣지 않는다. 날짜가 바뀌어 올라와 있는 달로 옮겨 왔다면 그 달을 내려서
+     * 다음 조회 때 DB 에서 다시 읽게 한다.
+     */
+    private void afterPartialWrite(List<Todo> todos, List<Set<Todo.Field>> fields) {
+        List<Todo> keywordRows = new ArrayList<>();
+        List<Integer> refetch = new ArrayList<>();
+        synchronized (this) {
+            modCount++;
+            for (int i = 0; i < todos.size(); i++) {
+                Todo src = todos.get(i);
+                Set<Todo.Field> f = fields.get(i);
+                boolean text = f.contains(Todo.Field.TITLE) || f.contains(Todo.Field.DESCRIPTION);
+                Todo cached = byId.get(src.getId());
+                if (cached != null) {
+                    Todo next = cached.copy().patchFrom(src, f);
+                    unindex(src.getId());
+                    index(next);
+                    if (text) keywordRows.add(next);
+                    continue;
+                }
+                if (f.contains(Todo.Field.DATE) && src.getDate() != null) {
+                    dropMonth(YearMonth.from(src.getDate()));
+                }
+                if (f.contains(Todo.Field.TITLE) && f.contains(Todo.Field.DESCRIPTION)) {
+                    keywordRows.add(src);
+                } else if (text) {
+                    refetch.add(src.getId());   // 나머지 텍스트 필드를 모름
+                }
+            }
+        }
+        for (Todo t : keywordRows) {
+            keywordIndex.put(t.getId(), t.getTitle(), t.getDescription());
+        }
+        for (Integer id : refetch) {
+            Todo row = delegate.findById(id);
+            if (row != null) {
+                keywordIndex.put(id, row.getTitle(), row.getDescription());
+            }
+        }
+    }
+
+    /* ===== 원격 변경 반영 (ChangePoller) ===== */
+
+    public void setChangeListener(ChangeListener listener) {
+        this.changeListener = listener;
+    }
+
+    /*
+     * 폴러가 읽어 온 변경 행과 삭제 id 를 캐시에 덮어쓴다. 이미 같은 값인 행(자기 쓰기 등)은 건너뛴다.
+     * 폴링 도중 끼어든 자기 쓰기를 오래된 값으로 덮을 수 있지만, 그 쓰기는 더 큰 version 이라 다음 폴링에서 다시 맞춰진다.
+     */
+    void applyRemoteChanges(List<Todo> rows, Set<Integer> deletedIds) {
+        Set<LocalDate> dates = new HashSet<>();
+        List<Todo> changed = new ArrayList<>();
+        synchronized (this) {
+            modCount++;
+            for (Todo row : rows) {
+                Todo cached = byId.get(row.getId());
+                if (cached != null) {
+                    if (cached.sameValues(row)) continue;
+                    dates.add(cached.getDate());
+                }
+                if (row.getDate() != null && loadedMonths.containsKey(YearMonth.from(row.getDate()))) {
+                    dates.add(row.getDate());
+                }
+                unindex(row.getId());
+                index(row.copy());
+                changed.add(row);
+            }
+            for (Integer id : deletedIds) {
+                Todo cached = byId.get(id);
+                if (cached != null) {
+                    dates.add(cached.getDate());
+                }
+                unindex(id);
+            }
+        }
+        for (Todo t : changed) {
+            keywordIndex.put(t.getId(), t.getTitle(), t.getDescription());
+        }
+        for (Integer id : deletedIds) {
+            keywordIndex.remove(id);
+        }
+
+        ChangeListener l = changeListener;
+        if (l != null && (!changed.isEmpty() || !deletedIds.isEmpty())) {
+            l.onRemoteChanges(dates, changed, deletedIds);
+        }
+    }
+
+    /* ===== 읽기 ===== */
+
+    @Override
+    public Todo findById(int id) {
+        synchronized (this) {
+            Todo cached = byId.get(id);
+            if (cached != null) return cached.copy();
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Todo> findByDate(LocalDate date) {
+        YearMonth ym = YearMonth.from(date);
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            if (!ensureLoaded(ym)) break;
+            synchronized (this) {
+                if (!loadedMonths.containsKey(ym)) continue;   // 그 사이 밀려났으면 다시 로딩
+                List<Todo> list = copiesOf(byDate.get(date));
+                list.sort(Todo.BY_PRIORITY_ID);
+                return list;
+            }
+        }
+        return delegate.findByDate(date);
+    }
+
+    @Override
+    public List<Todo> findByFilter(FilterOptions filter) {
+        List<Todo> sorted = servesFromMemory(filter) ? sortedMatches(filter) : null;
+        if (sorted == null) {
+            return delegate.findByFilter(narrowByKeyword(filter));
+        }
+        List<Todo> result = new ArrayList<>(sorted.size());
+        for (Todo t : sorted) {
+            result.add(t.copy());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit) {
+        List<Todo> sorted = servesFromMemory(filter) ? sortedMatches(filter) : null;
+        if (sorted == null) {
+            return delegate.findPageByFilter(narrowByKeyword(filter), after, limit);
+        }
+
+        int from = 0;
+        if (after != null) {
+            int pos = Collections.binarySearch(sorted, after, Todo.BY_PRIORITY_DATE_ID);
+            from = (pos >= 0) ? pos + 1 : -pos - 1;
+        }
+        List<Todo> page = new ArrayList<>();
+        for (Todo t : sorted.subList(from, Math.min(sorted.size(), from + limit))) {
+            page.add(t.copy());
+        }
+        return page;
+    }
+
+    // 범위의 달을 올린 뒤 조건에 맞는 행을 정렬해 돌려준다 (읽기 전용, 복사 전). 올리지 못하면 null
+    private List<Todo> sortedMatches(FilterOptions filter) {
+        LocalDate start = filter.getStartDate();
+        LocalDate end = filter.getEndDate();
+
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            if (!ensureLoaded(start, end)) break;
+            synchronized (this) {
+                if (!allLoaded(start, end)) continue;
+                if (snapshot != null && snapshotStamp == modCount && sameFilter(filter, snapshotFilter)) {
+                    return snapshot;
+                }
+                List<Todo> result = new ArrayList<>();
+                for (Map<Integer, Todo> day : byDate.subMap(start, true, end, true).values()) {
+                    for (Todo t : day.values()) {
+                        if (filter.matches(t)) {
+                            result.add(t);
+                        }
+                    }
+                }
+                result.sort(Todo.BY_PRIORITY_DATE_ID);
+                snapshot = Collections.unmodifiableList(result);
+                snapshotFilter = filter.copy();
+                snapshotStamp = modCount;
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameFilter(FilterOptions a, FilterOptions b) {
+        return Objects.equals(a.getKeyword(), b.getKeyword()) && a.sameExceptKeyword(b);
+    }
+
+    @Override
+    public boolean existsByDate(LocalDate date) {
+        return getDaySummary(date) != null;
+    }
+
+    @Override
+    public Integer getHighestPriorityForDate(LocalDate date) {
+        DaySummary summary = getDaySummary(date);
+        return (summary != null) ? summary.getHighestPriority() : null;
+    }
+
+    @Override
+    public Map<LocalDate, DaySummary> getMonthSummary(LocalDate month) {
+        YearMonth ym = YearMonth.from(month);
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            if (!ensureLoaded(ym)) break;
+            synchronized (this) {
+                if (!loadedMonths.containsKey(ym)) continue;
+                return summarizeMonth(ym);
+            }
+        }
+        return delegate.getMonthSummary(month);
+    }
+
+    private Map<LocalDate, DaySummary> summarizeMonth(YearMonth ym) {
+        Map<LocalDate, DaySummary> result = new HashMap<>();
+        for (Map.Entry<LocalDate, Map<Integer, Todo>> e
+                : byDate.subMap(ym.atDay(1), true, ym.atEndOfMonth(), true).entrySet()) {
+            result.put(e.getKey(), summarize(e.getKey(), e.getValue()));
+        }
+        return result;
+    }
+
+    /* 캐시에 올라와 있는 달이면 DB 접근 없이 요약을 돌려주고, 아니면 null */
+    public synchronized Map<LocalDate, DaySummary> peekMonthSummary(LocalDate month) {
+        YearMonth ym = YearMonth.from(month);
+        if (loadedMonths.get(ym) == null) return null;
+        return summarizeMonth(ym);
+    }
+
+    @Override
+    public DaySummary getDaySummary(LocalDate date) {
+        YearMonth ym = YearMonth.from(date);
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            if (!ensureLoaded(ym)) break;
+            synchronized (this) {
+                if (!loadedMonths.containsKey(ym)) continue;
+                Map<Integer, Todo> day = byDate.get(date);
+                return (day == null) ? null : summarize(date, day);
+            }
+        }
+        return delegate.getDaySummary(date);
+    }
+
+    /* ===== 키워드 색인 ===== */
+
+    /*
+     * 전체 todo 를 키셋 페이지 단위로 읽어 색인을 새로 만든다. 완성 전까지는 LIKE 검색만 사용.
+     * ChangePoller 가 기준 버전을 잡은 직후 호출하므로 빌드 도중 다른 클라이언트가 바꾼 행은 폴러가 다시 반영한다.
+     */
+    void buildKeywordIndexAsync() {
+        int build = keywordIndexBuild.incrementAndGet();
+        keywordIndexReady = false;
+        keywordIndex.clear();
+        Thread t = new Thread(() -> buildKeywordIndex(build), "planit-keyword-index");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void buildKeywordIndex(int build) {
+        FilterOptions all = new FilterOptions();
+        Todo after = null;
+        try {
+            while (true) {
+                List<Todo> page = delegate.findPageByFilter(all, after, INDEX_BUILD_PAGE);
+                synchronized (keywordIndex) {
+                    if (keywordIndexBuild.get() != build) return;   // 더 새로운 빌드가 시작됨
+                    for (Todo t : page) {
+                        keywordIndex.putIfAbsent(t.getId(), t.getTitle(), t.getDescription());
+                    }
+                }
+                if (page.size() < INDEX_BUILD_PAGE) break;
+                after = page.get(page.size() - 1);
+            }
+            keywordIndexReady = keywordIndexBuild.get() == build;
+        } catch (RuntimeException e) {
+            System.err.println("키워드 색인 생성 실패: " + e.getMessage());
+        }
+    }
+
+    void setKeywordCatchUp(Runnable catchUp) {
+        this.keywordCatchUp = catchUp;
+    }
+
+    /* 폴러가 없거나(다른 클라이언트 변경을 모름) 따라잡기에 실패하면 false: LIKE 로 검색 */
+    private boolean keywordIndexCurrent() {
+        Runnable catchUp = keywordCatchUp;
+        if (!keywordIndexReady || catchUp == null) return false;
+        try {
+            catchUp.run();
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return keywordIndexReady;
+    }
+
+    // 키워드를 색인으로 후보 id 집합으로 바꿔, DB 는 PK 로 후보 행만 확인하게 한다
+    private FilterOptions narrowByKeyword(FilterOptions filter) {
+        String keyword = filter.getKeyword();
+        if (keyword == null || keyword.isBlank() || filter.getCandidateIds() != null || !keywordIndexCurrent()) {
+            return filter;
+        }
+        Set<Integer> ids = keywordIndex.search(keyword);
+        if (ids == null || ids.size() > MAX_CANDIDATE_IDS) {
+            return filter;
+        }
+        FilterOptions narrowed = filter.copy();
+        narrowed.setCandidateIds(ids);
+        return narrowed;
+    }
+
+    /* ===== 캐시 관리 ===== */
+
+    public synchronized boolean isMonthLoaded(LocalDate month) {
+        return loadedMonths.containsKey(YearMonth.from(month));
+    }
+
+    public synchronized void invalidateAll() {
+        modCount++;
+        byId.clear();
+        byDate.clear();
+        loadedMonths.clear();
+    }
+
+    // 로딩 중 쓰기가 계속 끼어들어 MAX_LOAD_ATTEMPTS 번 안에 올리지 못하면 false
+    private boolean ensureLoaded(YearMonth ym) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long stamp;
+            synchronized (this) {
+                if (loadedMonths.get(ym) != null) return true;   // get 으로 LRU 순서 갱신
+                stamp = modCount;
+            }
+
+            FilterOptions f = new FilterOptions();
+            f.setStartDate(ym.atDay(1));
+            f.setEndDate(ym.atEndOfMonth());
+            List<Todo> rows = delegate.findByFilter(f);
+
+            synchronized (this) {
+                if (loadedMonths.containsKey(ym)) return true;
+                if (modCount != stamp) continue;   // 로딩 중에 쓰기가 있었으면 다시 읽음
+
+                loadedMonths.put(ym, Boolean.TRUE);
+                for (Todo t : rows) {
+                    index(t);
+                }
+                evictColdMonths();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean ensureLoaded(LocalDate start, LocalDate end) {
+        for (YearMonth ym = YearMonth.from(start); !ym.isAfter(YearMonth.from(end)); ym = ym.plusMonths(1)) {
+            if (!ensureLoaded(ym)) return false;
+        }
+        return true;
+    }
+
+    private void evictColdMonths() {
+        while (loadedMonths.size() > maxMonths) {
+            dropMonth(loadedMonths.keySet().iterator().next());
+        }
+    }
+
+    private void dropMonth(YearMonth ym) {
+        if (loadedMonths.remove(ym) == null) return;
+
+        NavigableMap<LocalDate, Map<Integer, Todo>> days =
+                byDate.subMap(ym.atDay(1), true, ym.atEndOfMonth(), true);
+        for (Map<Integer, Todo> day : days.values()) {
+            byId.keySet().removeAll(day.keySet());
+        }
+        days.clear();
+    }
+
+    // 해당 월이 캐시에 올라와 있을 때만 인덱스에 넣는다 (부분적으로 채워진 달이 생기지 않도록)
+    private void index(Todo t) {
+        if (t.getDate() == null || !loadedMonths.containsKey(YearMonth.from(t.getDate()))) {
+            return;
+        }
+        byId.put(t.getId(), t);
+        byDate.computeIfAbsent(t.getDate(), d -> new LinkedHashMap<>()).put(t.getId(), t);
+    }
+
+    private void unindex(int id) {
+        Todo old = byId.remove(id);
+        if (old == null) return;
+        Map<Integer, Todo> day = byDate.get(old.getDate());
+        if (day != null) {
+            day.remove(id);
+            if (day.isEmpty()) {
+                byDate.remove(old.getDate());
+            }
+        }
+    }
+
+    /*
+     * 시작/끝 날짜가 모두 있는 범위 중, 좁거나(filterLoadMonths 달 이하) 이미 전부 올라와 있는 것만 메모리에서 처리.
+     * 넓은 범위 하나를 답하자고 달마다 전체 행을 캐시에 끌어오지 않는다.
+     */
+    private boolean servesFromMemory(FilterOptions filter) {
+        LocalDate start = filter.getStartDate();
+        LocalDate end = filter.getEndDate();
+        if (start == null || end == null || end.isBefore(start)) return false;
+        long months = ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(end)) + 1;
+        if (months > maxMonths) return false;
+        if (months <= filterLoadMonths) return true;
+        synchronized (this) {
+            return allLoaded(start, end);
+        }
+    }
+
+    private boolean allLoaded(LocalDate start, LocalDate end) {
+        for (YearMonth ym = YearMonth.from(start); !ym.isAfter(YearMonth.from(end)); ym = ym.plusMonths(1)) {
+            if (!loadedMonths.containsKey(ym)) return false;
+        }
+        return true;
+    }
+
+    private static List<Todo> copiesOf(Map<Integer, Todo> day) {
+        List<Todo> list = new ArrayList<>();
+        if (day != null) {
+            for (Todo t : day.values()) {
+                list.add(t.copy());
+            }
+        }
+        return list;
+    }
+
+    private static DaySummary summarize(LocalDate date, Map<Integer, Todo> day) {
+        int highest = Integer.MAX_VALUE;
+        int completed = 0;
+        for (Todo t : day.values()) {
+            highest = Math.min(highest, t.getPriority());
+            if (t.isCompleted()) completed++;
+        }
+        return new DaySummary(date, highest, day.size(), completed);
+    }
+}
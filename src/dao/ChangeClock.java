@@ -0,0 +1,48 @@
+package dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+
+/*
+ * todos 변경 버전 카운터 (todo_clock 의 한 행).
+ * 쓰기 트랜잭션 안에서 next() 로 값을 올리면 그 행이 커밋까지 잠기므로
+ * 버전은 커밋 순서대로 보이고, 폴러는 "version > 마지막으로 본 값" 만 읽으면 된다.
+ */
+final class ChangeClock {
+
+    // DELETE 직전에 실행: 아직 남아 있는 행만 묘비를 남긴다 (1: version, 2: id)
+    static final String TOMBSTONE_SQL = "INSERT INTO todo_tombstones (id, version) SELECT id, ? FROM todos WHERE id = ?";
+
+    private ChangeClock() {
+    }
+
+    static void init(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO todo_clock (id, version) SELECT 1, COALESCE(MAX(version), 0) FROM todos")) {
+            if (current(conn) < 0) {
+                ps.executeUpdate();
+            }
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // 다른 클라이언트가 먼저 만듦
+        }
+    }
+
+    // autocommit 이 꺼진 연결에서만 호출
+    static long next(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("UPDATE todo_clock SET version = version + 1 WHERE id = 1")) {
+            ps.executeUpdate();
+        }
+        return current(conn);
+    }
+
+    // 카운터 행이 없으면 -1
+    static long current(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT version FROM todo_clock WHERE id = 1");
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+}
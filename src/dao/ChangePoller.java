@@ -0,0 +1,129 @@
+package dao;
+
+import model.Todo;
+import util.AppConfig;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 다른 클라이언트의 변경을 주기적으로 당겨 와 캐시에 반영하는 폴러.
+ * 마지막으로 본 todo_clock 값 이후에 바뀐 행(version)과 삭제 묘비만 읽으므로
+ * 한 번의 폴링 비용은 변경량에 비례한다. 시작할 때의 카운터 값부터 따라간다.
+ * 캐시의 키워드 색인도 기준 버전을 잡은 뒤에 만들게 해서 색인이 폴링과 빈틈없이 이어지게 하고,
+ * 키워드 검색 직전에는 한 번 더 폴링해 그 사이의 변경까지 색인에 넣는다.
+ */
+public class ChangePoller implements AutoCloseable {
+
+    private final CachedTodoRepository cache;
+    private final long intervalMs = AppConfig.getLong("planit.poll.intervalMs", 3000);
+    private final int tombstoneRetentionDays = AppConfig.getInt("planit.poll.tombstoneRetentionDays", 30);
+    private final int fetchSize = AppConfig.getInt("planit.db.fetchSize", 500);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "planit-change-poller");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private long lastVersion = -1;
+    private long lastPruneAt;
+    private boolean failing;   // 장애 중에는 실패를 한 번만 기록
+
+    public ChangePoller(CachedTodoRepository cache) {
+        this.cache = cache;
+    }
+
+    /* 첫 폴링(기준 버전 읽기)도 폴러 스레드에서: 호출한 EDT 를 DB 왕복으로 막지 않는다 */
+    public void start() {
+        cache.setKeywordCatchUp(this::pollOnce);
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void pollSafely() {
+        try {
+            pollOnce();
+            if (failing) {
+                failing = false;
+                System.err.println("변경 확인 복구");
+            }
+        } catch (RuntimeException e) {
+            if (!failing) {
+                failing = true;
+                System.err.println("변경 확인 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    synchronized void pollOnce() {
+        try (Connection conn = DBConnector.getConnection()) {
+            long head = ChangeClock.current(conn);
+            if (lastVersion < 0 || head < lastVersion) {   // 첫 폴링이거나 카운터가 초기화됨
+                lastVersion = head;
+                cache.invalidateAll();   // 기준 버전보다 먼저 읽어 둔 달은 그 사이 변경을 놓쳤을 수 있다
+                cache.buildKeywordIndexAsync();
+                return;
+            }
+            if (head == lastVersion) return;
+
+            List<Todo> rows = new ArrayList<>();
+            String sql = "SELECT id, title, description, date, priority, completed FROM todos "
+                    + "WHERE version > ? AND version <= ?";
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setLong(1, lastVersion);
+                ps.setLong(2, head);
+                ps.setFetchSize(fetchSize);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(TodoDAO.mapRow(rs));
+                    }
+                }
+            }
+
+            Set<Integer> deleted = new HashSet<>();
+            String tombSql = "SELECT id FROM todo_tombstones WHERE version > ? AND version <= ?";
+            try (PreparedStatement ps = conn.prepareStatement(tombSql)) {
+                ps.setLong(1, lastVersion);
+                ps.setLong(2, head);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        deleted.add(rs.getInt(1));
+                    }
+                }
+            }
+
+            lastVersion = head;
+            cache.applyRemoteChanges(rows, deleted);
+            pruneTombstones(conn);
+        } catch (SQLException e) {
+            throw new RuntimeException("변경 확인 실패", e);
+        }
+    }
+
+    // 보존 기간이 지난 묘비는 하루에 한 번 정리 (그보다 오래 꺼져 있던 클라이언트는 시작할 때 새로 읽는다)
+    private void pruneTombstones(Connection conn) throws SQLException {
+        long now = System.currentTimeMillis();
+        if (now - lastPruneAt < Duration.ofDays(1).toMillis()) return;
+        lastPruneAt = now;
+        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM todo_tombstones WHERE deleted_at < ?")) {
+            ps.setTimestamp(1, new Timestamp(now - Duration.ofDays(tombstoneRetentionDays).toMillis()));
+            ps.executeUpdate();
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
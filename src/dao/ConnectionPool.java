@@ -0,0 +1,666 @@
+package dao;
+
+import util.Metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 외부 라이브러리 없이 구현한 고정 상한 커넥션 풀.
+ * borrow() 로 받은 Connection 은 close() 하면 실제로 닫히지 않고 풀로 반환된다.
+ * prepareStatement(sql) 로 만든 PreparedStatement 도 커넥션마다 SQL 문자열 기준 LRU 로 보관했다가
+ * 같은 SQL 이 다시 오면 재사용한다 (close() 하면 캐시로 돌아감).
+ * 모든 PreparedStatement 는 실행부터 결과를 다 읽을 때까지의 시간을 재서 db.statement 에 기록하고,
+ * 느린 쿼리 로그가 설정돼 있으면 기준을 넘은 문장을 넘긴다.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private final int maxSize;
+    private final int minIdle;
+    private final long connectionTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long validationIntervalMs;
+    private final int validationTimeoutSec;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong validationFailCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong statementHits = new AtomicLong();
+    private final AtomicLong statementMisses = new AtomicLong();
+
+    private volatile SlowQueryLog slowQueryLog;
+
+    public ConnectionPool(String url, String user, String password,
+                          int maxSize, int minIdle,
+                          long connectionTimeoutMs, long idleTimeoutMs, long maxLifetimeMs,
+                          int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.minIdle = Math.max(0, Math.min(minIdle, this.maxSize));
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.validationIntervalMs = 500;
+        this.validationTimeoutSec = 2;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.permits = new Semaphore(this.maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "planit-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, Math.min(idleTimeoutMs, 30_000));
+        housekeeper.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 닫혔습니다");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException("커넥션 대기 시간 초과 (" + connectionTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트", e);
+        } finally {
+            totalWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+
+        try {
+            PooledConnection pc;
+            while ((pc = idle.pollFirst()) != null) {
+                if (isUsable(pc)) {
+                    break;
+                }
+                destroy(pc);
+            }
+            if (pc == null) {
+                pc = create();
+            }
+            borrowCount.incrementAndGet();
+            return pc.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private boolean isUsable(PooledConnection pc) {
+        long now = System.currentTimeMillis();
+        if (now - pc.createdAt > maxLifetimeMs) {
+            return false;
+        }
+        if (now - pc.lastUsedAt < validationIntervalMs) {
+            return true;
+        }
+        try {
+            if (pc.physical.isValid(validationTimeoutSec)) {
+                return true;
+            }
+        } catch (SQLException ignored) {
+        }
+        validationFailCount.incrementAndGet();
+        return false;
+    }
+
+    private PooledConnection create() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        createdCount.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    private void destroy(PooledConnection pc) {
+        destroyedCount.incrementAndGet();
+        pc.statements.clear();   // 물리 커넥션을 닫으면 문장도 함께 닫힘
+        try {
+            pc.physical.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private void release(PooledConnection pc) {
+        try {
+            boolean reusable = !closed && !pc.broken && !pc.physical.isClosed();
+            if (reusable && !pc.physical.getAutoCommit()) {
+                pc.physical.rollback();
+                pc.physical.setAutoCommit(true);
+            }
+            if (reusable && System.currentTimeMillis() - pc.createdAt <= maxLifetimeMs) {
+                pc.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(pc);
+            } else {
+                destroy(pc);
+            }
+        } catch (SQLException e) {
+            destroy(pc);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (PooledConnection pc : idle) {
+            boolean expired = now - pc.createdAt > maxLifetimeMs;
+            boolean idleTooLong = now - pc.lastUsedAt > idleTimeoutMs && idle.size() > minIdle;
+            if ((expired || idleTooLong) && idle.remove(pc)) {
+                destroy(pc);
+            }
+        }
+    }
+
+    public Stats getStats() {
+        int idleNow = idle.size();
+        int active = maxSize - permits.availablePermits();
+        return new Stats(active, idleNow, permits.getQueueLength(), maxSize,
+                createdCount.get(), destroyedCount.get(), borrowCount.get(),
+                timeoutCount.get(), validationFailCount.get(),
+                TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get()),
+                statementHits.get(), statementMisses.get());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            destroy(pc);
+        }
+    }
+
+    /* ===== 풀 내부의 물리 커넥션 ===== */
+
+    private final class PooledConnection {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastUsedAt;
+        private volatile boolean broken;
+
+        // 대여 중에는 빌린 스레드만, 반환 후에는 풀만 접근하므로 별도 잠금 없음
+        private final LinkedHashMap<String, PreparedStatement> statements =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                        if (size() <= statementCacheSize) return false;
+                        closeQuietly(eldest.getValue());
+                        return true;
+                    }
+                };
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+        }
+
+        /*
+         * 캐시에 있으면 꺼내서 빌려주고(사용 중에는 캐시에서 빠짐), 없으면 새로 준비한다.
+         * 같은 SQL 을 동시에 두 개 여는 경우 두 번째는 새로 만들어지고, 반환 시 하나만 남는다.
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement ps = statements.remove(sql);
+            if (ps != null && !ps.isClosed()) {
+                statementHits.incrementAndGet();
+            } else {
+                statementMisses.incrementAndGet();
+                ps = physical.prepareStatement(sql);
+            }
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new StatementHandler(this, sql, ps, true));
+        }
+
+        // 캐시하지 않는 문장(생성 키 요청 등)도 시간은 잰다
+        PreparedStatement wrap(String sql, PreparedStatement ps) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new StatementHandler(this, sql, ps, false));
+        }
+
+        boolean statementsEnabled() {
+            return statementCacheSize > 0;
+        }
+
+        void giveBack(String sql, PreparedStatement ps) {
+            if (broken || statementCacheSize == 0 || statements.containsKey(sql)) {
+                closeQuietly(ps);
+                return;
+            }
+            try {
+                ResultSet open = ps.getResultSet();
+                if (open != null) {
+                    open.close();
+                }
+                ps.clearParameters();
+                ps.clearBatch();
+                ps.setFetchSize(0);
+                ps.setMaxRows(0);
+                statements.put(sql, ps);
+            } catch (SQLException e) {
+                closeQuietly(ps);
+            }
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    /* 대여된 커넥션의 close() 를 가로채 풀로 반환한다 */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pc;
+        private boolean returned;
+
+        LeaseHandler(PooledConnection pc) {
+            this.pc = pc;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(pc);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || pc.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + pc.physical + "]";
+                }
+            }
+            if (returned) {
+                throw new SQLException("이미 풀에 반환된 커넥션입니다");
+            }
+            // prepareStatement(String) 만 캐시 대상 (생성 키/커서 옵션이 붙은 변형은 그대로 통과)
+            if (method.getName().equals("prepareStatement") && args != null && args.length == 1
+                    && pc.statementsEnabled()) {
+                try {
+                    return pc.prepare((String) args[0]);
+                } catch (SQLException e) {
+                    if (isFatal(e)) {
+                        pc.broken = true;
+                    }
+                    throw e;
+                }
+            }
+            try {
+                Object result = method.invoke(pc.physical, args);
+                if (result instanceof PreparedStatement ps && method.getName().equals("prepareStatement")) {
+                    return pc.wrap((String) args[0], ps);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sql && isFatal(sql)) {
+                    pc.broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /*
+     * PreparedStatement 프록시. 캐시 대상이면 close() 를 가로채 커넥션의 문장 캐시로 돌려보낸다.
+     * setXxx(index, ...) 호출을 기억해 두었다가 느린 쿼리의 파라미터 타입과 EXPLAIN 재바인딩에 쓴다.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final PooledConnection pc;
+        private final String sql;
+        private final PreparedStatement ps;
+        private final boolean cacheable;
+        private final TreeMap<Integer, Binding> bindings = new TreeMap<>();
+        private ResultSetHandler openResult;
+        private boolean closed;
+        private boolean failed;
+
+        StatementHandler(PooledConnection pc, String sql, PreparedStatement ps, boolean cacheable) {
+            this.pc = pc;
+            this.sql = sql;
+            this.ps = ps;
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        if (openResult != null) {
+                            openResult.finish();
+                        }
+                        if (failed || !cacheable) {
+                            closeQuietly(ps);   // 오류가 난 문장은 상태를 믿을 수 없으므로 버림
+                        } else {
+                            pc.giveBack(sql, ps);
+                        }
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || ps.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "CachedStatement[" + sql + "]";
+                }
+            }
+            if (closed) {
+                throw new SQLException("이미 닫힌 문장입니다");
+            }
+
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            }
+
+            boolean execute = name.startsWith("execute");
+            if (execute && openResult != null) {
+                openResult.finish();   // 이전 결과를 다 안 읽고 다시 실행
+            }
+            long start = execute ? System.nanoTime() : 0;
+            Object result;
+            try {
+                result = method.invoke(ps, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                failed = true;
+                if (cause instanceof SQLException se && isFatal(se)) {
+                    pc.broken = true;
+                }
+                throw cause;
+            }
+            if (!execute) return result;
+
+            // 조회는 결과를 다 읽거나 닫을 때까지를 한 번의 실행으로 본다
+            if (result instanceof ResultSet rs) {
+                openResult = new ResultSetHandler(this, rs, start);
+                return Proxy.newProxyInstance(
+                        ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, openResult);
+            }
+            finished(start, affectedRows(result));
+            return result;
+        }
+
+        void finished(long start, long rows) {
+            long elapsed = System.nanoTime() - start;
+            Metrics.latency("db.statement").record(elapsed);
+            SlowQueryLog log = slowQueryLog;
+            if (log == null || !log.isSlow(elapsed)) return;
+
+            List<String> types = new ArrayList<>(bindings.size());
+            for (Binding b : bindings.values()) {
+                types.add(b.type());
+            }
+            log.record(sql, types, rows, elapsed, this::explain);
+        }
+
+        // 같은 물리 커넥션에서 같은 값으로 바인딩해 EXPLAIN 실행
+        private String explain() throws Exception {
+            try (PreparedStatement explain = pc.physical.prepareStatement("EXPLAIN " + sql)) {
+                for (Binding b : bindings.values()) {
+                    b.method().invoke(explain, b.args());
+                }
+                try (ResultSet rs = explain.executeQuery()) {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    List<String> rows = new ArrayList<>();
+                    while (rs.next()) {
+                        StringBuilder row = new StringBuilder();
+                        for (int i = 1; i <= meta.getColumnCount(); i++) {
+                            if (i > 1) row.append(", ");
+                            row.append(meta.getColumnLabel(i)).append('=').append(rs.getObject(i));
+                        }
+                        rows.add(row.toString());
+                    }
+                    return String.join(" | ", rows).replaceAll("\\s+", " ");
+                }
+            }
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+        // setString → String, setNull → Null
+        String type() {
+            return method.getName().substring(3);
+        }
+    }
+
+    /* 조회 결과 프록시: next() 로 읽은 행 수를 세고, 끝까지 읽거나 닫히면 실행 시간을 확정한다 */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final StatementHandler statement;
+        private final ResultSet rs;
+        private final long start;
+        private long rows;
+        private boolean done;
+
+        ResultSetHandler(StatementHandler statement, ResultSet rs, long start) {
+            this.statement = statement;
+            this.rs = rs;
+            this.start = start;
+        }
+
+        void finish() {
+            if (done) return;
+            done = true;
+            if (statement.openResult == this) {
+                statement.openResult = null;
+            }
+            statement.finished(start, rows);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> finish();
+            }
+            Object result;
+            try {
+                result = method.invoke(rs, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (method.getName().equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else {
+                    finish();
+                }
+            }
+            return result;
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer n) return n;
+        if (result instanceof Long n) return n;
+        long sum = 0;
+        if (result instanceof int[] counts) {
+            for (int c : counts) sum += Math.max(0, c);
+            return sum;
+        }
+        if (result instanceof long[] counts) {
+            for (long c : counts) sum += Math.max(0, c);
+            return sum;
+        }
+        return -1;   // execute(): 결과 종류를 모름
+    }
+
+    private static void closeQuietly(PreparedStatement ps) {
+        try {
+            ps.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /* SQLState 08xxx(연결 오류)는 커넥션을 재사용하지 않는다 */
+    private static boolean isFatal(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
+    /* ===== 풀 상태 스냅샷 ===== */
+
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final int waiting;
+        private final int maxSize;
+        private final long created;
+        private final long destroyed;
+        private final long borrowed;
+        private final long timeouts;
+        private final long validationFailures;
+        private final long totalWaitMillis;
+        private final long statementHits;
+        private final long statementMisses;
+
+        Stats(int active, int idle, int waiting, int maxSize, long created, long destroyed,
+              long borrowed, long timeouts, long validationFailures, long totalWaitMillis,
+              long statementHits, long statementMisses) {
+            this.active = active;
+            this.idle = idle;
+            this.waiting = waiting;
+            this.maxSize = maxSize;
+            this.created = created;
+            this.destroyed = destroyed;
+            this.borrowed = borrowed;
+            this.timeouts = timeouts;
+            this.validationFailures = validationFailures;
+            this.totalWaitMillis = totalWaitMillis;
+            this.statementHits = statementHits;
+            this.statementMisses = statementMisses;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getWaiting() {
+            return waiting;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public long getDestroyed() {
+            return destroyed;
+        }
+
+        public long getBorrowed() {
+            return borrowed;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getValidationFailures() {
+            return validationFailures;
+        }
+
+        public long getTotalWaitMillis() {
+            return totalWaitMillis;
+        }
+
+        public long getStatementHits() {
+            return statementHits;
+        }
+
+        public long getStatementMisses() {
+            return statementMisses;
+        }
+
+        @Override
+        public String toString() {
+            return "active=" + active + ", idle=" + idle + ", waiting=" + waiting + ", max=" + maxSize
+                    + ", created=" + created + ", destroyed=" + destroyed + ", borrowed=" + borrowed
+                    + ", timeouts=" + timeouts + ", validationFailures=" + validationFailures
+                    + ", totalWaitMs=" + totalWaitMillis
+                    + ", stmtHits=" + statementHits + ", stmtMisses=" + statementMisses;
+        }
+    }
+}
@@ -1,26 +1,73 @@
 package dao;
 
+import util.AppConfig;
+import util.Metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 public class DBConnector {
 
-    private static Connection conn;
+    private static ConnectionPool pool;
+
+    public static synchronized ConnectionPool getPool() {
+        if (pool == null) {
+            String url = AppConfig.getString("planit.db.url",
+                    "jdbc:mysql://nsyun.synology.me:3306/db?serverTimezone=UTC&characterEncoding=UTF-8&useCursorFetch=true&rewriteBatchedStatements=true&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048");
+            String uid = AppConfig.getString("planit.db.user", "user");
+            String pwd = AppConfig.getString("planit.db.password", "user1234");
+
+            pool = new ConnectionPool(url, uid, pwd,
+                    AppConfig.getInt("planit.db.pool.maxSize", 4),
+                    AppConfig.getInt("planit.db.pool.minIdle", 1),
+                    AppConfig.getLong("planit.db.pool.connectionTimeoutMs", 10_000),
+                    AppConfig.getLong("planit.db.pool.idleTimeoutMs", 5 * 60_000),
+                    AppConfig.getLong("planit.db.pool.maxLifetimeMs", 30 * 60_000),
+                    AppConfig.getInt("planit.db.pool.statementCacheSize", 64));
+
+            ConnectionPool created = pool;
+            Runtime.getRuntime().addShutdownHook(new Thread(created::close, "planit-pool-shutdown"));
 
+            Metrics.gauge("db.pool.active", () -> created.getStats().getActive());
+            Metrics.gauge("db.pool.idle", () -> created.getStats().getIdle());
+            Metrics.gauge("db.pool.waiting", () -> created.getStats().getWaiting());
+            Metrics.gauge("db.pool.timeouts", () -> created.getStats().getTimeouts());
+            Metrics.gauge("db.pool.totalWaitMs", () -> created.getStats().getTotalWaitMillis());
+            Metrics.gauge("db.statementCache.hits", () -> created.getStats().getStatementHits());
+            Metrics.gauge("db.statementCache.misses", () -> created.getStats().getStatementMisses());
+
+            installSlowQueryLog(created);
+        }
+        return pool;
+    }
+
+    // 기준(ms) 이상 걸린 문장을 파일에 남긴다. 음수면 끔
+    private static void installSlowQueryLog(ConnectionPool target) {
+        long thresholdMs = AppConfig.getLong("planit.db.slowQueryMs", 200);
+        if (thresholdMs < 0) return;
+
+        SlowQueryLog log = new SlowQueryLog(thresholdMs,
+                AppConfig.getBoolean("planit.db.slowQueryExplain", false),
+                Path.of(AppConfig.getString("planit.db.slowQueryLog",
+                        System.getProperty("user.home") + "/.planit/slow-queries.log")));
+        target.setSlowQueryLog(log);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(log, new ObjectName("planit:type=SlowQueryLog"));
+        } catch (JMException e) {
+            System.err.println("느린 쿼리 로그 JMX 등록 실패: " + e.getMessage());
+        }
+    }
+
+    /* 풀에서 커넥션을 빌려온다. 사용 후 반드시 close() 해서 반환할 것 */
     public static Connection getConnection() {
-        if (conn == null) {
-            try {
-            	String url = "jdbc:mysql://nsyun.synology.me:3306/db?serverTimezone=UTC&characterEncoding=UTF-8";
-            	String uid = "user";
-            	String pwd = "user1234";
-
-                conn = DriverManager.getConnection(url, uid, pwd);
-            } catch (SQLException e) {
-                throw new RuntimeException("MySQL 연결 실패", e);
-            }
+        try {
+            return getPool().borrow();
+        } catch (SQLException e) {
+            throw new RuntimeException("MySQL 연결 실패", e);
         }
-        return conn;
     }
 }
-
@@ -0,0 +1,600 @@
+package dao;
+
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+import util.AppConfig;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * MySQL 없이 로컬 파일에 저장하는 TodoRepository (단일 사용자용).
+ * 모든 행은 메모리에 두고 읽기는 메모리에서만 처리한다. 쓰기는 추가 전용 로그(todos.log)에 한 줄씩 덧붙이고,
+ * 로그가 길어지면 전체 상태를 스냅샷(todos.snapshot)으로 쓰고 로그를 비운다.
+ *
+ * 로그 한 줄: U(행 전체) / D(삭제) / N(다음 id) 뒤에 탭 구분 필드, 한 번의 쓰기(배치 포함)는 C 줄로 끝난다.
+ * 시작할 때 스냅샷 → 로그 순으로 재생하며, C 로 끝나지 않은 마지막 묶음(쓰다 죽은 것)은 버린다.
+ * 로그 쓰기가 실패하면 마지막 C 줄 뒤로 잘라 내고 다시 연다 (실패한 묶음이 다음 C 에 묻어 커밋되지 않도록).
+ */
+public class FileTodoRepository implements TodoRepository, AutoCloseable {
+
+    private static final String SNAPSHOT = "todos.snapshot";
+    private static final String LOG = "todos.log";
+    private static final String NULL = "\\0";
+
+    private final Path dir;
+    private final boolean fsync = AppConfig.getBoolean("planit.storage.fsync", false);
+    private final int compactAfter = AppConfig.getInt("planit.storage.compactAfter", 10_000);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Todo> byId = new HashMap<>();
+    private final NavigableMap<LocalDate, Map<Integer, Todo>> byDate = new TreeMap<>();
+    private final NavigableSet<Todo> ordered = new TreeSet<>(Todo.BY_PRIORITY_DATE_ID);
+    private int nextId = 1;
+
+    private FileOutputStream logStream;
+    private BufferedWriter logWriter;
+    private long logCommitted;     // 마지막 C 줄까지의 바이트 수
+    private boolean logDamaged;    // 실패한 쓰기를 아직 잘라 내지 못함
+    private int logOps;
+
+    public FileTodoRepository(Path dir) {
+        this.dir = dir;
+        try {
+            Files.createDirectories(dir);
+            load();
+            openLog();
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 저장소 열기 실패: " + dir, e);
+        }
+    }
+
+    /* ===== 쓰기 ===== */
+
+    @Override
+    public void insert(Todo todo) {
+        insertAll(List.of(todo));
+    }
+
+    @Override
+    public void update(Todo todo) {
+        updateAll(List.of(todo));
+    }
+
+    @Override
+    public void updateFields(Todo todo) {
+        updateFieldsAll(List.of(todo));
+    }
+
+    @Override
+    public void delete(int id) {
+        deleteAll(List.of(id));
+    }
+
+    @Override
+    public void insertAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        write("insertAll", () -> {
+            List<String> lines = new ArrayList<>(todos.size());
+            List<Todo> rows = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                Todo row = todo.copy();
+                row.setId(nextId++);
+                rows.add(row);
+                lines.add(rowLine(row));
+            }
+            lines.add("N\t" + nextId);   // 가장 큰 id 를 지운 뒤 재시작해도 id 를 다시 쓰지 않도록
+            append(lines);
+            for (int i = 0; i < todos.size(); i++) {
+                put(rows.get(i));
+                todos.get(i).setId(rows.get(i).getId());
+                todos.get(i).clearDirty();
+            }
+        });
+    }
+
+    @Override
+    public void updateAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        write("updateAll", () -> {
+            List<Todo> rows = new ArrayList<>();
+            for (Todo todo : todos) {
+                if (byId.containsKey(todo.getId())) {   // 없는 id 는 UPDATE 와 마찬가지로 무시
+                    rows.add(todo.copy());
+                }
+            }
+            appendRows(rows);
+            todos.forEach(Todo::clearDirty);
+        });
+    }
+
+    @Override
+    public void updateFieldsAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        write("updateFieldsAll", () -> {
+            List<Todo> rows = new ArrayList<>();
+            for (Todo todo : todos) {
+                Todo current = byId.get(todo.getId());
+                if (current == null || !todo.isDirty()) continue;
+                rows.add(current.copy().patchFrom(todo, todo.getDirtyFields()));
+            }
+            appendRows(rows);
+            todos.forEach(Todo::clearDirty);
+        });
+    }
+
+    @Override
+    public void deleteAll(Collection<Integer> ids) {
+        if (ids.isEmpty()) return;
+        write("deleteAll", () -> {
+            List<String> lines = new ArrayList<>(ids.size());
+            for (Integer id : ids) {
+                if (byId.containsKey(id)) {
+                    lines.add("D\t" + id);
+                }
+            }
+            append(lines);
+            for (Integer id : ids) {
+                remove(id);
+            }
+        });
+    }
+
+    /* ===== 복제본(ReplicaTodoRepository)용: id 를 그대로 쓰는 쓰기 ===== */
+
+    // 주어진 id 로 행 전체를 넣거나 덮어씀 (원격에서 받은 행, 임시 id 행)
+    void upsertAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        write("upsertAll", () -> {
+            List<Todo> rows = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                rows.add(todo.copy());
+            }
+            appendRows(rows);
+        });
+    }
+
+    // 임시 id 로 저장된 행을 서버가 준 id 로 옮김 (한 묶음으로 기록)
+    void remapId(int from, int to) {
+        write("remapId", () -> {
+            Todo row = byId.get(from);
+            if (row == null) return;
+            Todo moved = row.copy();
+            moved.setId(to);
+            append(List.of("D\t" + from, rowLine(moved)));
+            remove(from);
+            put(moved);
+        });
+    }
+
+    Set<Integer> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(byId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void appendRows(List<Todo> rows) throws IOException {
+        List<String> lines = new ArrayList<>(rows.size());
+        for (Todo row : rows) {
+            lines.add(rowLine(row));
+        }
+        append(lines);
+        for (Todo row : rows) {
+            remove(row.getId());
+            put(row);
+        }
+    }
+
+    @FunctionalInterface
+    private interface WriteOp {
+        void run() throws IOException;
+    }
+
+    // 로그에 먼저 쓰고 성공하면 메모리에 반영. 로그가 길어졌으면 스냅샷으로 압축
+    private void write(String name, WriteOp op) {
+        lock.writeLock().lock();
+        try {
+            if (logDamaged) {
+                rollbackLog();
+            }
+            op.run();
+            if (logOps >= compactAfter) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(name + " 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===== 읽기 (메모리) ===== */
+
+    @Override
+    public Todo findById(int id) {
+        lock.readLock().lock();
+        try {
+            Todo t = byId.get(id);
+            return (t != null) ? t.copy() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Todo> findByDate(LocalDate date) {
+        if (date == null) return new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Todo> list = copies(byDate.getOrDefault(date, Map.of()).values());
+            list.sort(Todo.BY_PRIORITY_ID);
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Todo> findByFilter(FilterOptions filter) {
+        return findPageByFilter(filter, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit) {
+        List<Todo> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Collection<Todo> rows = (after != null) ? ordered.tailSet(after, false) : ordered;
+            for (Todo t : rows) {
+                if (result.size() >= limit) break;
+                if (filter.matches(t)) {
+                    result.add(t.copy());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsByDate(LocalDate date) {
+        if (date == null) return false;
+        lock.readLock().lock();
+        try {
+            return byDate.containsKey(date);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Integer getHighestPriorityForDate(LocalDate date) {
+        DaySummary s = getDaySummary(date);
+        return (s != null) ? s.getHighestPriority() : null;
+    }
+
+    @Override
+    public DaySummary getDaySummary(LocalDate date) {
+        if (date == null) return null;
+        lock.readLock().lock();
+        try {
+            Map<Integer, Todo> day = byDate.get(date);
+            return (day != null) ? summarize(date, day.values()) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<LocalDate, DaySummary> getMonthSummary(LocalDate month) {
+        LocalDate first = month.withDayOfMonth(1);
+        LocalDate last = month.withDayOfMonth(month.lengthOfMonth());
+        Map<LocalDate, DaySummary> result = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<LocalDate, Map<Integer, Todo>> e : byDate.subMap(first, true, last, true).entrySet()) {
+                result.put(e.getKey(), summarize(e.getKey(), e.getValue().values()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private static DaySummary summarize(LocalDate date, Collection<Todo> todos) {
+        int highest = Integer.MAX_VALUE;
+        int completed = 0;
+        for (Todo t : todos) {
+            highest = Math.min(highest, t.getPriority());
+            if (t.isCompleted()) completed++;
+        }
+        return new DaySummary(date, highest, todos.size(), completed);
+    }
+
+    private static List<Todo> copies(Collection<Todo> todos) {
+        List<Todo> list = new ArrayList<>(todos.size());
+        for (Todo t : todos) {
+            list.add(t.copy());
+        }
+        return list;
+    }
+
+    /* ===== 메모리 인덱스 ===== */
+
+    // 날짜 없는 행은 byDate 에 넣지 않는다 (DB 에서도 날짜 조회에 걸리지 않음)
+    private void put(Todo t) {
+        byId.put(t.getId(), t);
+        if (t.getDate() != null) {
+            byDate.computeIfAbsent(t.getDate(), d -> new LinkedHashMap<>()).put(t.getId(), t);
+        }
+        ordered.add(t);
+        nextId = Math.max(nextId, t.getId() + 1);
+    }
+
+    private void remove(int id) {
+        Todo old = byId.remove(id);
+        if (old == null) return;
+        ordered.remove(old);
+        if (old.getDate() == null) return;
+        Map<Integer, Todo> day = byDate.get(old.getDate());
+        if (day != null) {
+            day.remove(id);
+            if (day.isEmpty()) {
+                byDate.remove(old.getDate());
+            }
+        }
+    }
+
+    /* ===== 파일: 로드/로그/스냅샷 ===== */
+
+    private void load() throws IOException {
+        Path snapshot = dir.resolve(SNAPSHOT);
+        if (Files.exists(snapshot)) {
+            replay(snapshot);
+            logOps = 0;
+        }
+        Path log = dir.resolve(LOG);
+        if (Files.exists(log)) {
+            boolean clean = replay(log) && endsWithNewline(log);
+            if (!clean) {
+                compact();   // 쓰다 만 꼬리를 잘라 내기 위해 바로 스냅샷으로 정리
+            }
+        }
+    }
+
+    // C 줄까지 읽은 묶음만 반영. 끝까지 깨끗하게 끝났으면 true
+    private boolean replay(Path file) throws IOException {
+        List<String[]> batch = new ArrayList<>();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                String[] f = line.split("\t", -1);
+                switch (f[0]) {
+                    case "N" -> nextId = Math.max(nextId, Integer.parseInt(f[1]));
+                    case "C" -> {
+                        for (String[] op : batch) {
+                            applyLine(op);
+                        }
+                        logOps += batch.size();
+                        batch.clear();
+                    }
+                    default -> batch.add(f);
+                }
+            }
+        }
+        return batch.isEmpty();
+    }
+
+    private void applyLine(String[] f) {
+        switch (f[0]) {
+            case "U" -> {
+                if (f.length < 7) return;   // 손상된 줄
+                Todo t = parseRow(f, 1);
+                remove(t.getId());
+                put(t);
+            }
+            case "D" -> remove(Integer.parseInt(f[1]));
+            default -> {
+            }
+        }
+    }
+
+    private void openLog() throws IOException {
+        logStream = new FileOutputStream(dir.resolve(LOG).toFile(), true);
+        logWriter = new BufferedWriter(new OutputStreamWriter(logStream, StandardCharsets.UTF_8));
+        logCommitted = logStream.getChannel().size();
+    }
+
+    private void append(List<String> lines) throws IOException {
+        if (lines.isEmpty()) return;
+        try {
+            for (String line : lines) {
+                logWriter.write(line);
+                logWriter.write('\n');
+            }
+            logWriter.write("C\n");
+            logWriter.flush();
+            if (fsync) {
+                logStream.getFD().sync();
+            }
+            logCommitted = logStream.getChannel().size();
+        } catch (IOException e) {
+            logDamaged = true;
+            try {
+                rollbackLog();
+            } catch (IOException again) {
+                e.addSuppressed(again);   // 다음 쓰기 전에 다시 시도
+            }
+            throw e;
+        }
+        logOps += lines.size();
+    }
+
+    // 버퍼에 남은 줄은 버리고(writer 를 flush 하지 않고 스트림만 닫음) 파일을 마지막 커밋 위치로 자른 뒤 다시 연다
+    private void rollbackLog() throws IOException {
+        if (logStream != null) {
+            try {
+                logStream.close();
+            } catch (IOException ignored) {
+                // 어차피 버릴 스트림
+            }
+            logStream = null;
+            logWriter = null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(dir.resolve(LOG).toFile(), "rw")) {
+            if (raf.length() > logCommitted) {
+                raf.setLength(logCommitted);
+            }
+        }
+        openLog();
+        logDamaged = false;
+    }
+
+    /*
+     * 현재 상태 전체를 임시 파일에 쓰고 원자적으로 교체한 뒤 로그를 비운다.
+     * 로그를 비우고 나면 스냅샷이 유일한 사본이므로 planit.storage.fsync 와 관계없이
+     * 임시 파일과 디렉터리(이름 교체)를 디스크에 내린 다음에만 로그를 자른다.
+     */
+    private void compact() throws IOException {
+        Path tmp = dir.resolve(SNAPSHOT + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(tmp.toFile());
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+            out.write("N\t" + nextId + "\n");
+            for (Todo t : byId.values()) {
+                out.write(rowLine(t));
+                out.write('\n');
+            }
+            out.write("C\n");
+            out.flush();
+            stream.getFD().sync();
+        }
+        Files.move(tmp, dir.resolve(SNAPSHOT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+
+        if (logWriter != null) {
+            logWriter.close();
+        }
+        Files.write(dir.resolve(LOG), new byte[0]);
+        logOps = 0;
+        if (logWriter != null) {
+            openLog();
+        }
+    }
+
+    // 이름 교체를 디스크에 반영. 디렉터리를 열 수 없는 플랫폼(Windows)에서는 건너뛴다
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 지원하지 않음
+        }
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            if (raf.length() == 0) return true;
+            raf.seek(raf.length() - 1);
+            return raf.read() == '\n';
+        }
+    }
+
+    // f[from] 부터 id, date, priority, completed, title, description
+    static Todo parseRow(String[] f, int from) {
+        Todo t = new Todo();
+        t.setId(Integer.parseInt(f[from]));
+        t.setDate(NULL.equals(f[from + 1]) ? null : LocalDate.parse(f[from + 1]));
+        t.setPriority(Integer.parseInt(f[from + 2]));
+        t.setCompleted("1".equals(f[from + 3]));
+        t.setTitle(unescape(f[from + 4]));
+        t.setDescription(unescape(f[from + 5]));
+        t.clearDirty();
+        return t;
+    }
+
+    static String rowLine(Todo t) {
+        return "U\t" + t.getId() + "\t" + (t.getDate() != null ? t.getDate() : NULL) + "\t" + t.getPriority() + "\t" + (t.isCompleted() ? 1 : 0)
+                + "\t" + escape(t.getTitle()) + "\t" + escape(t.getDescription());
+    }
+
+    static String escape(String s) {
+        if (s == null) return NULL;
+        StringBuilder sb = new StringBuilder(s.length() + 8);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String unescape(String s) {
+        if (NULL.equals(s)) return null;
+        if (s.indexOf('\\') < 0) return s;
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                sb.append(switch (n) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> n;
+                });
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (logWriter != null) {
+                logWriter.close();
+                logWriter = null;
+            }
+        } catch (IOException e) {
+            System.err.println("로컬 저장소 닫기 실패: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 지금 실행 중인 저장소 호출 (스레드별 한 건). MeteredTodoRepository 가 채우고
+ * EDT 멈춤 감지기가 멈춘 순간 어떤 DB 호출이 진행 중이었는지 남길 때 읽는다.
+ */
+public final class InFlightCalls {
+
+    private record Call(String name, long startNanos) {
+    }
+
+    private static final Map<Thread, Call> calls = new ConcurrentHashMap<>();
+
+    private InFlightCalls() {
+    }
+
+    static void begin(String name) {
+        calls.put(Thread.currentThread(), new Call(name, System.nanoTime()));
+    }
+
+    static void end() {
+        calls.remove(Thread.currentThread());
+    }
+
+    /* thread 에서 진행 중인 호출 ("dao.findByDate (1234ms)"), 없으면 null */
+    public static String on(Thread thread) {
+        Call c = calls.get(thread);
+        return (c == null) ? null : describe(c);
+    }
+
+    public static List<String> all() {
+        List<String> result = new ArrayList<>();
+        calls.forEach((thread, c) -> result.add(thread.getName() + ": " + describe(c)));
+        return result;
+    }
+
+    private static String describe(Call c) {
+        return c.name() + " (" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - c.startNanos()) + "ms)";
+    }
+}
@@ -0,0 +1,185 @@
+package dao;
+
+import util.TextUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/*
+ * 제목/설명에 대한 메모리 역색인.
+ * - 영문/숫자: 단어 단위 토큰. 검색어가 단어의 일부여도 찾도록 어휘 목록에서 부분 일치로 조회
+ * - 한글: 1글자(unigram) + 연속 2글자(bigram) 토큰
+ * - 대소문자/악센트는 TextUtils.fold 로 접어서 색인한다 (*_ai_ci 정렬에서 "cafe" LIKE 가 "café" 와 일치하므로)
+ * - 그 밖의 글자(ß, 한자 등)는 정렬 규칙상 어떤 검색어와 같아질지 알 수 없으므로
+ *   그런 글자가 들어 있는 행은 토큰 대신 opaque 로 두고 모든 검색의 후보에 넣는다
+ * search() 결과는 "후보" id 집합이다. 실제 LIKE 일치 여부는 DB 에서 다시 확인한다.
+ */
+public class KeywordIndex {
+
+    private final Map<String, Set<Integer>> grams = new HashMap<>();
+    private final TreeMap<String, Set<Integer>> words = new TreeMap<>();
+    private final Map<Integer, List<String>> tokensById = new HashMap<>();
+    private final Set<Integer> opaque = new HashSet<>();
+
+    public synchronized void put(int id, String title, String description) {
+        remove(id);
+        String text = TextUtils.fold(join(title, description));
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            postingsFor(token).add(id);
+        }
+        tokensById.put(id, tokens);
+        if (TextUtils.hasUnfoldableLetters(text)) {
+            opaque.add(id);
+        }
+    }
+
+    /* 초기 색인 빌드용: 쓰기 경로에서 이미 들어온 id 는 덮어쓰지 않는다 */
+    public synchronized void putIfAbsent(int id, String title, String description) {
+        if (!tokensById.containsKey(id)) {
+            put(id, title, description);
+        }
+    }
+
+    public synchronized void remove(int id) {
+        opaque.remove(id);
+        List<String> tokens = tokensById.remove(id);
+        if (tokens == null) return;
+        for (String token : tokens) {
+            Map<String, Set<Integer>> map = isWord(token) ? words : grams;
+            Set<Integer> ids = map.get(token);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) map.remove(token);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        grams.clear();
+        words.clear();
+        tokensById.clear();
+        opaque.clear();
+    }
+
+    public synchronized int size() {
+        return tokensById.size();
+    }
+
+    /* 검색어를 포함할 수 있는 id 후보. 색인으로 좁힐 수 없는 검색어(한글 외 비 ASCII 글자 포함 등)면 null */
+    public synchronized Set<Integer> search(String keyword) {
+        if (keyword == null) return null;
+        String q = TextUtils.fold(keyword.trim());
+        if (TextUtils.hasUnfoldableLetters(q)) return null;
+
+        Set<Integer> result = null;
+        for (String run : splitRuns(q)) {
+            Set<Integer> matches = isWord(run) ? searchWord(run) : searchGrams(run);
+            result = (result == null) ? matches : intersect(result, matches);
+            if (result.isEmpty()) break;
+        }
+        if (result != null) {
+            result.addAll(opaque);
+        }
+        return result;
+    }
+
+    private Set<Integer> searchWord(String part) {
+        Set<Integer> ids = new HashSet<>();
+        for (Map.Entry<String, Set<Integer>> e : words.entrySet()) {
+            if (e.getKey().contains(part)) {
+                ids.addAll(e.getValue());
+            }
+        }
+        return ids;
+    }
+
+    private Set<Integer> searchGrams(String run) {
+        if (run.length() == 1) {
+            return new HashSet<>(grams.getOrDefault(run, Set.of()));
+        }
+        Set<Integer> result = null;
+        for (int i = 0; i + 1 < run.length(); i++) {
+            Set<Integer> ids = grams.getOrDefault(run.substring(i, i + 2), Set.of());
+            result = (result == null) ? new HashSet<>(ids) : intersect(result, ids);
+            if (result.isEmpty()) break;
+        }
+        return result;
+    }
+
+    private Set<Integer> postingsFor(String token) {
+        Map<String, Set<Integer>> map = isWord(token) ? words : grams;
+        return map.computeIfAbsent(token, t -> new HashSet<>());
+    }
+
+    /* ===== 토크나이저 ===== */
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+
+        Set<String> seen = new HashSet<>();
+        for (String run : splitRuns(text)) {
+            if (isWord(run)) {
+                if (seen.add(run)) tokens.add(run);
+                continue;
+            }
+            if (!TextUtils.isHangul(run.charAt(0))) continue;   // opaque 로 처리
+            for (int i = 0; i < run.length(); i++) {
+                String uni = run.substring(i, i + 1);
+                if (seen.add(uni)) tokens.add(uni);
+                if (i + 1 < run.length()) {
+                    String bi = run.substring(i, i + 2);
+                    if (seen.add(bi)) tokens.add(bi);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 영문/숫자 연속 구간과 그 밖의 글자(한글 등) 연속 구간으로 나눔. 공백/기호는 구분자
+    private static List<String> splitRuns(String text) {
+        List<String> runs = new ArrayList<>();
+        int start = -1;
+        boolean ascii = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = (i < text.length()) ? text.charAt(i) : ' ';
+            boolean letter = Character.isLetterOrDigit(c);
+            boolean cAscii = c < 128;
+            if (start >= 0 && (!letter || cAscii != ascii)) {
+                runs.add(text.substring(start, i));
+                start = -1;
+            }
+            if (letter && start < 0) {
+                start = i;
+                ascii = cAscii;
+            }
+        }
+        return runs;
+    }
+
+    private static boolean isWord(String token) {
+        return !token.isEmpty() && token.charAt(0) < 128;
+    }
+
+    private static Set<Integer> intersect(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> small = a.size() <= b.size() ? a : b;
+        Set<Integer> large = (small == a) ? b : a;
+        Set<Integer> result = new HashSet<>();
+        for (Integer id : small) {
+            if (large.contains(id)) result.add(id);
+        }
+        return result;
+    }
+
+    private static String join(String title, String description) {
+        if (description == null || description.isEmpty()) return title;
+        if (title == null) return description;
+        return title + "\n" + description;
+    }
+}
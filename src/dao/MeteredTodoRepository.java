@@ -0,0 +1,172 @@
+package dao;
+
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+import util.Metrics;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * 저장소 호출마다 메트릭을 남기는 데코레이터.
+ * dao.<메서드> 지연 시간, dao.<메서드>.rows 반환 행 수, dao.<메서드>.errors 실패 횟수를 기록하고
+ * 검색은 조건 모양별(dao.findByFilter{keyword+start+end})로도 따로 기록한다.
+ */
+public class MeteredTodoRepository implements TodoRepository {
+
+    private final TodoRepository delegate;
+
+    public MeteredTodoRepository(TodoRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /* ===== 쓰기 ===== */
+
+    @Override
+    public void insert(Todo todo) {
+        timed("insert", () -> {
+            delegate.insert(todo);
+            return null;
+        });
+    }
+
+    @Override
+    public void update(Todo todo) {
+        timed("update", () -> {
+            delegate.update(todo);
+            return null;
+        });
+    }
+
+    @Override
+    public void updateFields(Todo todo) {
+        timed("updateFields", () -> {
+            delegate.updateFields(todo);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(int id) {
+        timed("delete", () -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void insertAll(List<Todo> todos) {
+        rows("insertAll", timed("insertAll", () -> {
+            delegate.insertAll(todos);
+            return todos.size();
+        }));
+    }
+
+    @Override
+    public void updateAll(List<Todo> todos) {
+        rows("updateAll", timed("updateAll", () -> {
+            delegate.updateAll(todos);
+            return todos.size();
+        }));
+    }
+
+    @Override
+    public void updateFieldsAll(List<Todo> todos) {
+        rows("updateFieldsAll", timed("updateFieldsAll", () -> {
+            delegate.updateFieldsAll(todos);
+            return todos.size();
+        }));
+    }
+
+    @Override
+    public void deleteAll(Collection<Integer> ids) {
+        rows("deleteAll", timed("deleteAll", () -> {
+            delegate.deleteAll(ids);
+            return ids.size();
+        }));
+    }
+
+    /* ===== 읽기 ===== */
+
+    @Override
+    public Todo findById(int id) {
+        return timed("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Todo> findByDate(LocalDate date) {
+        List<Todo> result = timed("findByDate", () -> delegate.findByDate(date));
+        rows("findByDate", result.size());
+        return result;
+    }
+
+    @Override
+    public List<Todo> findByFilter(FilterOptions filter) {
+        String shape = "findByFilter{" + TodoDAO.filterShape(filter) + "}";
+        long start = System.nanoTime();
+        List<Todo> result = timed("findByFilter", shape, () -> delegate.findByFilter(filter));
+        Metrics.recordNanos("dao." + shape, start);
+        rows("findByFilter", result.size());
+        rows(shape, result.size());
+        return result;
+    }
+
+    @Override
+    public List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit) {
+        String shape = "findPageByFilter{" + TodoDAO.filterShape(filter) + "}";
+        long start = System.nanoTime();
+        List<Todo> result = timed("findPageByFilter", shape, () -> delegate.findPageByFilter(filter, after, limit));
+        Metrics.recordNanos("dao." + shape, start);
+        rows("findPageByFilter", result.size());
+        return result;
+    }
+
+    @Override
+    public boolean existsByDate(LocalDate date) {
+        return timed("existsByDate", () -> delegate.existsByDate(date));
+    }
+
+    @Override
+    public Integer getHighestPriorityForDate(LocalDate date) {
+        return timed("getHighestPriorityForDate", () -> delegate.getHighestPriorityForDate(date));
+    }
+
+    @Override
+    public DaySummary getDaySummary(LocalDate date) {
+        return timed("getDaySummary", () -> delegate.getDaySummary(date));
+    }
+
+    @Override
+    public Map<LocalDate, DaySummary> getMonthSummary(LocalDate month) {
+        Map<LocalDate, DaySummary> result = timed("getMonthSummary", () -> delegate.getMonthSummary(month));
+        rows("getMonthSummary", result.size());
+        return result;
+    }
+
+    private static <T> T timed(String method, Supplier<T> call) {
+        return timed(method, method, call);
+    }
+
+    // detail: 진행 중 호출로 보일 이름 (검색은 조건 모양 포함)
+    private static <T> T timed(String method, String detail, Supplier<T> call) {
+        long start = System.nanoTime();
+        InFlightCalls.begin("dao." + detail);
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            Metrics.increment("dao." + method + ".errors");
+            throw e;
+        } finally {
+            InFlightCalls.end();
+            Metrics.recordNanos("dao." + method, start);
+        }
+    }
+
+    private static void rows(String method, long count) {
+        Metrics.histogram("dao." + method + ".rows").record(count);
+    }
+}
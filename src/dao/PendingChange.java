@@ -0,0 +1,36 @@
+package dao;
+
+import model.Todo;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+ * 아직 서버로 보내지 않은 로컬 변경 한 건 (id 당 하나로 합쳐진다).
+ * base 는 마지막으로 서버와 맞춘 값으로, 푸시할 때 서버 쪽에서도 바뀐 필드(충돌)를 가려내는 데 쓴다.
+ */
+final class PendingChange {
+
+    enum Kind { INSERT, UPDATE, DELETE }
+
+    final int id;
+    Kind kind;
+    Todo base;
+    final Map<Todo.Field, Long> changedAt = new EnumMap<>(Todo.Field.class);   // 필드별 로컬 수정 시각
+    int generation;   // 바뀔 때마다 증가. 푸시 도중 또 바뀌었는지 판단
+    String clientKey; // INSERT 만: 서버 todos.client_key. 같은 INSERT 를 다시 보내도 한 행만 생기게 한다
+
+    PendingChange(int id, Kind kind, Todo base) {
+        this.id = id;
+        this.kind = kind;
+        this.base = base;
+    }
+
+    PendingChange copy() {
+        PendingChange c = new PendingChange(id, kind, (base != null) ? base.copy() : null);
+        c.changedAt.putAll(changedAt);
+        c.generation = generation;
+        c.clientKey = clientKey;
+        return c;
+    }
+}
@@ -0,0 +1,513 @@
+package dao;
+
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * 오프라인 우선 복제본.
+ * 모든 읽기/쓰기는 로컬 파일 저장소(FileTodoRepository)에서 바로 처리하고,
+ * 로컬 변경은 id 별로 합쳐진 PendingChange 로 남겨 두었다가 SyncEngine 이 백그라운드에서 서버로 보낸다.
+ * 로컬에서 새로 만든 일정은 음수 임시 id 를 받고, 서버에 들어간 뒤 서버 id 로 바뀐다.
+ * 화면에는 임시 id 를 가진 객체가 남아 있을 수 있으므로 임시 id → 서버 id 별칭을 기억해 두고 쓰기/조회 때 풀어 준다.
+ * 보낼 변경 목록과 동기화 시점은 sync.state 파일에 저장되어 재시작해도 이어진다.
+ */
+public class ReplicaTodoRepository implements TodoRepository, AutoCloseable {
+
+    public interface SyncListener {
+        // 두 메서드 모두 동기화 스레드에서 호출된다
+        void onStatus(SyncStatus status, int pendingCount);
+
+        void onRemoteChange(Set<LocalDate> dates);   // 서버 변경(또는 id 변경)이 로컬에 반영된 날짜들
+    }
+
+    private static final String STATE = "sync.state";
+    private static final int MAX_ALIASES = 1000;
+
+    private final FileTodoRepository local;
+    private final Path stateFile;
+    private final SyncEngine engine;
+    private volatile SyncListener listener;
+
+    private final Map<Integer, PendingChange> pending = new LinkedHashMap<>();
+    private final LinkedHashMap<Integer, Integer> aliases = new LinkedHashMap<>();   // 임시 id → 서버 id
+    private long watermark;   // 서버 시각 기준, 이 시각 이후 바뀐 행만 당겨 옴
+    private long tombstoneVersion = -1;   // 이 버전까지의 서버 삭제(묘비)를 반영함. -1 이면 기준 없음
+    private long tombstoneSyncedAt;       // 묘비를 마지막으로 확인한 서버 시각
+    private int nextTempId = -1;
+
+    public ReplicaTodoRepository(Path dir) {
+        this.local = new FileTodoRepository(dir);
+        this.stateFile = dir.resolve(STATE);
+        loadState();
+        this.engine = new SyncEngine(this);
+    }
+
+    public void start() {
+        engine.start();
+    }
+
+    public void setSyncListener(SyncListener listener) {
+        this.listener = listener;
+    }
+
+    public void syncNow() {
+        engine.requestSync();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /* ===== 쓰기: 로컬에 바로 반영하고 보낼 변경으로 기록 ===== */
+
+    @Override
+    public void insert(Todo todo) {
+        insertAll(List.of(todo));
+    }
+
+    @Override
+    public void update(Todo todo) {
+        updateAll(List.of(todo));
+    }
+
+    @Override
+    public void updateFields(Todo todo) {
+        updateFieldsAll(List.of(todo));
+    }
+
+    @Override
+    public void delete(int id) {
+        deleteAll(List.of(id));
+    }
+
+    @Override
+    public void insertAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        synchronized (this) {
+            List<Todo> rows = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                Todo row = todo.copy();
+                row.setId(nextTempId--);
+                rows.add(row);
+            }
+            local.upsertAll(rows);
+            for (int i = 0; i < todos.size(); i++) {
+                int id = rows.get(i).getId();
+                todos.get(i).setId(id);
+                todos.get(i).clearDirty();
+                PendingChange p = new PendingChange(id, PendingChange.Kind.INSERT, null);
+                p.clientKey = UUID.randomUUID().toString();
+                pending.put(id, p);
+            }
+            saveState();
+        }
+        engine.requestSync();
+    }
+
+    @Override
+    public void updateAll(List<Todo> todos) {
+        recordUpdates(todos, false);
+    }
+
+    @Override
+    public void updateFieldsAll(List<Todo> todos) {
+        recordUpdates(todos, true);
+    }
+
+    /*
+     * 실제로 값이 바뀐 필드만 수정 시각과 함께 기록. 처음 바뀌는 행이면 현재 로컬 값을 base 로 잡는다.
+     * 이미 서버 id 로 옮겨진 임시 id 는 서버 id 로 바꿔서 쓰고, 로컬에 없는 행이면 아무것도 쓰지 않고 실패한다.
+     */
+    private void recordUpdates(List<Todo> todos, boolean dirtyOnly) {
+        if (todos.isEmpty()) return;
+        synchronized (this) {
+            List<Todo> currents = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                todo.setId(resolve(todo.getId()));
+                Todo current = local.findById(todo.getId());
+                if (current == null) {
+                    throw new RuntimeException("일정 수정 실패: 로컬에 없는 일정입니다 (id " + todo.getId() + ")");
+                }
+                currents.add(current);
+            }
+
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < todos.size(); i++) {
+                Todo todo = todos.get(i);
+                Todo current = currents.get(i);
+
+                PendingChange p = pending.get(todo.getId());
+                if (p == null) {
+                    p = new PendingChange(todo.getId(), PendingChange.Kind.UPDATE, current);
+                }
+                Set<Todo.Field> fields = dirtyOnly ? todo.getDirtyFields() : EnumSet.allOf(Todo.Field.class);
+                for (Todo.Field f : fields) {
+                    if (!current.sameValue(f, todo)) {
+                        p.changedAt.put(f, now);
+                    }
+                }
+                if (p.kind != PendingChange.Kind.UPDATE || !p.changedAt.isEmpty()) {
+                    p.generation++;
+                    pending.put(todo.getId(), p);
+                }
+            }
+            if (dirtyOnly) {
+                local.updateFieldsAll(todos);
+            } else {
+                local.updateAll(todos);
+            }
+            saveState();
+        }
+        engine.requestSync();
+    }
+
+    @Override
+    public void deleteAll(Collection<Integer> requested) {
+        if (requested.isEmpty()) return;
+        synchronized (this) {
+            List<Integer> ids = new ArrayList<>(requested.size());
+            for (Integer id : requested) {
+                ids.add(resolve(id));
+            }
+            for (Integer id : ids) {
+                PendingChange p = pending.get(id);
+                if (p != null && p.kind == PendingChange.Kind.INSERT) {
+                    pending.remove(id);   // 서버에 간 적 없는 행: 보낼 것도 없음
+                    continue;
+                }
+                Todo current = local.findById(id);
+                if (current == null) {
+                    // 이미 지워진 행 (다른 클라이언트가 지운 것을 당겨 옴): 삭제 결과는 같으므로 기록만 남긴다
+                    System.err.println("이미 없는 일정 삭제 요청: id " + id);
+                    continue;
+                }
+                PendingChange d = new PendingChange(id, PendingChange.Kind.DELETE, (p != null) ? p.base : current);
+                d.generation = (p != null) ? p.generation + 1 : 1;
+                pending.put(id, d);
+            }
+            local.deleteAll(ids);
+            saveState();
+        }
+        engine.requestSync();
+    }
+
+    /* ===== 읽기: 로컬만 ===== */
+
+    @Override
+    public Todo findById(int id) {
+        return local.findById(resolve(id));
+    }
+
+    @Override
+    public List<Todo> findByDate(LocalDate date) {
+        return local.findByDate(date);
+    }
+
+    @Override
+    public List<Todo> findByFilter(FilterOptions filter) {
+        return local.findByFilter(filter);
+    }
+
+    @Override
+    public List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit) {
+        return local.findPageByFilter(filter, after, limit);
+    }
+
+    @Override
+    public boolean existsByDate(LocalDate date) {
+        return local.existsByDate(date);
+    }
+
+    @Override
+    public Integer getHighestPriorityForDate(LocalDate date) {
+        return local.getHighestPriorityForDate(date);
+    }
+
+    @Override
+    public DaySummary getDaySummary(LocalDate date) {
+        return local.getDaySummary(date);
+    }
+
+    @Override
+    public Map<LocalDate, DaySummary> getMonthSummary(LocalDate month) {
+        return local.getMonthSummary(month);
+    }
+
+    /* ===== SyncEngine 에서 호출 (동기화 스레드) ===== */
+
+    SyncListener listener() {
+        return listener;
+    }
+
+    synchronized List<PendingChange> pendingSnapshot() {
+        List<PendingChange> list = new ArrayList<>(pending.size());
+        for (PendingChange p : pending.values()) {
+            list.add(p.copy());
+        }
+        return list;
+    }
+
+    Todo localRow(int id) {
+        return local.findById(id);
+    }
+
+    synchronized long watermark() {
+        return watermark;
+    }
+
+    // 서버에 INSERT 됨: 임시 id 를 서버 id 로 옮긴다. 푸시 도중 또 바뀌었으면 UPDATE 로, 지워졌으면 DELETE 로 남김
+    synchronized void insertPushed(int tempId, int newId, int generation, Todo pushed, Set<LocalDate> changed) {
+        addAlias(tempId, newId);
+        PendingChange p = pending.remove(tempId);
+        if (p == null) {
+            PendingChange d = new PendingChange(newId, PendingChange.Kind.DELETE, pushed);
+            d.generation = 1;
+            pending.put(newId, d);
+        } else {
+            local.remapId(tempId, newId);
+            if (p.generation != generation) {
+                PendingChange u = new PendingChange(newId, PendingChange.Kind.UPDATE, pushed);
+                u.changedAt.putAll(p.changedAt);
+                u.generation = 1;
+                pending.put(newId, u);
+            }
+        }
+        changed.add(pushed.getDate());
+        saveState();
+    }
+
+    // 보낼 INSERT 인데 로컬 행이 없음 (이미 옮겨졌거나 지워짐): 더 보낼 것이 없다
+    synchronized void dropInsert(int id, int generation) {
+        PendingChange p = pending.get(id);
+        if (p != null && p.kind == PendingChange.Kind.INSERT && p.generation == generation) {
+            pending.remove(id);
+            saveState();
+        }
+    }
+
+    // 서버에 UPDATE 됨. lost 는 서버 쪽 값이 더 최근이라 로컬 변경을 버린 필드
+    synchronized void updatePushed(int id, int generation, Todo remoteAfter, Set<Todo.Field> lost,
+                                   Set<LocalDate> changed) {
+        PendingChange p = pending.get(id);
+        if (p == null) return;
+        if (p.generation != generation) {
+            p.base = remoteAfter;   // 그사이 또 바뀜: 다음 라운드에 새 base 기준으로 다시 보냄
+        } else {
+            pending.remove(id);
+            Todo current = local.findById(id);
+            if (current != null && !lost.isEmpty()) {
+                Todo next = current.copy().patchFrom(remoteAfter, lost);
+                local.upsertAll(List.of(next));
+                changed.add(current.getDate());
+                changed.add(next.getDate());
+            }
+        }
+        saveState();
+    }
+
+    synchronized void deletePushed(int id, int generation) {
+        PendingChange p = pending.get(id);
+        if (p != null && p.kind == PendingChange.Kind.DELETE && p.generation == generation) {
+            pending.remove(id);
+            saveState();
+        }
+    }
+
+    // 로컬에서 고친 행이 서버에서는 이미 삭제됨: 삭제 쪽을 따른다
+    synchronized void remoteDeleted(int id, Set<LocalDate> changed) {
+        pending.remove(id);
+        Todo current = local.findById(id);
+        if (current != null) {
+            local.delete(id);
+            changed.add(current.getDate());
+        }
+        saveState();
+    }
+
+    // 서버에서 당겨 온 행 반영. 아직 보내지 않은 로컬 변경이 있는 필드는 로컬 값을 유지
+    synchronized void applyRemote(List<Todo> rows, long newWatermark, Set<LocalDate> changed) {
+        List<Todo> upserts = new ArrayList<>();
+        for (Todo remote : rows) {
+            PendingChange p = pending.get(remote.getId());
+            if (p != null && p.kind == PendingChange.Kind.DELETE) continue;
+
+            Todo current = local.findById(remote.getId());
+            Todo next = (p != null && current != null)
+                    ? remote.copy().patchFrom(current, p.changedAt.keySet())
+                    : remote;
+            if (current != null && current.sameValues(next)) continue;
+
+            upserts.add(next);
+            if (current != null) changed.add(current.getDate());
+            changed.add(next.getDate());
+        }
+        local.upsertAll(upserts);
+        watermark = Math.max(watermark, newWatermark);
+        saveState();
+    }
+
+    synchronized long tombstoneVersion() {
+        return tombstoneVersion;
+    }
+
+    synchronized long tombstoneSyncedAt() {
+        return tombstoneSyncedAt;
+    }
+
+    // 새 묘비 없음: 확인 시각만 갱신 (파일에는 다음 저장 때 함께 기록)
+    synchronized void tombstonesChecked(long serverNow) {
+        tombstoneSyncedAt = serverNow;
+    }
+
+    // 묘비로 받은 서버 삭제 반영. 임시 id 와 보낼 변경이 있는 행은 제외 (푸시할 때 삭제 쪽을 따른다)
+    synchronized void applyRemoteDeletes(Set<Integer> deletedIds, long version, long serverNow, Set<LocalDate> changed) {
+        List<Integer> gone = new ArrayList<>();
+        for (Integer id : deletedIds) {
+            if (id > 0 && !pending.containsKey(id)) {
+                Todo t = local.findById(id);
+                if (t != null) {
+                    changed.add(t.getDate());
+                    gone.add(id);
+                }
+            }
+        }
+        local.deleteAll(gone);
+        tombstoneVersion = version;
+        tombstoneSyncedAt = serverNow;
+        saveState();
+    }
+
+    // 서버에 없는 id 정리 (묘비를 믿을 수 없을 때의 전체 비교). 임시 id 와 보낼 변경이 있는 행은 제외
+    synchronized void applyRemoteIds(Set<Integer> remoteIds, long version, long serverNow, Set<LocalDate> changed) {
+        List<Integer> gone = new ArrayList<>();
+        for (Integer id : local.ids()) {
+            if (id > 0 && !remoteIds.contains(id) && !pending.containsKey(id)) {
+                Todo t = local.findById(id);
+                if (t != null) changed.add(t.getDate());
+                gone.add(id);
+            }
+        }
+        local.deleteAll(gone);
+        tombstoneVersion = version;
+        tombstoneSyncedAt = serverNow;
+        saveState();
+    }
+
+    private synchronized int resolve(int id) {
+        if (id >= 0) return id;
+        Integer to = aliases.get(id);
+        return (to != null) ? to : id;
+    }
+
+    private void addAlias(int tempId, int serverId) {
+        aliases.put(tempId, serverId);
+        while (aliases.size() > MAX_ALIASES) {
+            aliases.remove(aliases.keySet().iterator().next());
+        }
+    }
+
+    /* ===== sync.state 저장/복원 ===== */
+
+    private void loadState() {
+        if (Files.exists(stateFile)) {
+            try {
+                for (String line : Files.readAllLines(stateFile, StandardCharsets.UTF_8)) {
+                    String[] f = line.split("\t", -1);
+                    switch (f[0]) {
+                        case "W" -> watermark = Long.parseLong(f[1]);
+                        case "V" -> {
+                            tombstoneVersion = Long.parseLong(f[1]);
+                            tombstoneSyncedAt = Long.parseLong(f[2]);
+                        }
+                        case "T" -> nextTempId = Integer.parseInt(f[1]);
+                        case "A" -> addAlias(Integer.parseInt(f[1]), Integer.parseInt(f[2]));
+                        case "P" -> {
+                            int id = Integer.parseInt(f[1]);
+                            Todo base = "-".equals(f[5]) ? null : FileTodoRepository.parseRow(f, 6);
+                            PendingChange p = new PendingChange(id, PendingChange.Kind.valueOf(f[2]), base);
+                            p.generation = Integer.parseInt(f[3]);
+                            if (!f[4].isEmpty()) {
+                                for (String item : f[4].split(",")) {
+                                    String[] kv = item.split(":");
+                                    p.changedAt.put(Todo.Field.valueOf(kv[0]), Long.parseLong(kv[1]));
+                                }
+                            }
+                            pending.put(id, p);
+                        }
+                        case "K" -> {
+                            PendingChange p = pending.get(Integer.parseInt(f[1]));
+                            if (p != null) p.clientKey = f[2];
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new RuntimeException("동기화 상태 읽기 실패: " + stateFile, e);
+            }
+        }
+        for (PendingChange p : pending.values()) {
+            if (p.kind == PendingChange.Kind.INSERT && p.clientKey == null) {
+                p.clientKey = UUID.randomUUID().toString();   // 키가 없던 이전 형식
+            }
+        }
+        // 상태 파일이 없거나 오래된 경우에도 임시 id 가 겹치지 않도록
+        for (Integer id : local.ids()) {
+            nextTempId = Math.min(nextTempId, id - 1);
+        }
+    }
+
+    private void saveState() {
+        Path tmp = stateFile.resolveSibling(STATE + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            out.write("W\t" + watermark + "\n");
+            out.write("V\t" + tombstoneVersion + "\t" + tombstoneSyncedAt + "\n");
+            out.write("T\t" + nextTempId + "\n");
+            for (Map.Entry<Integer, Integer> e : aliases.entrySet()) {
+                out.write("A\t" + e.getKey() + "\t" + e.getValue() + "\n");
+            }
+            for (PendingChange p : pending.values()) {
+                StringBuilder changedAt = new StringBuilder();
+                for (Map.Entry<Todo.Field, Long> e : p.changedAt.entrySet()) {
+                    if (changedAt.length() > 0) changedAt.append(',');
+                    changedAt.append(e.getKey()).append(':').append(e.getValue());
+                }
+                out.write("P\t" + p.id + "\t" + p.kind + "\t" + p.generation + "\t" + changedAt + "\t"
+                        + (p.base != null ? FileTodoRepository.rowLine(p.base) : "-") + "\n");
+                if (p.clientKey != null) {
+                    out.write("K\t" + p.id + "\t" + p.clientKey + "\n");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("동기화 상태 저장 실패", e);
+        }
+        try {
+            Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("동기화 상태 저장 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        engine.close();
+        local.close();
+    }
+}
@@ -0,0 +1,45 @@
+package dao;
+
+import util.AppConfig;
+
+import java.nio.file.Path;
+
+/*
+ * planit.storage 설정에 따라 저장소 구현을 고른다.
+ * - mysql (기본): 원격 MySQL + 월 단위 캐시 + 키워드 색인 + 다른 클라이언트 변경 폴링
+ * - file: 로컬 파일(추가 전용 로그 + 스냅샷). planit.storage.dir (기본 ~/.planit)
+ * - replica: 로컬 파일을 기본 저장소로 쓰고 백그라운드에서 MySQL 과 동기화 (오프라인 우선)
+ */
+public class RepositoryFactory {
+
+    public static TodoRepository create() {
+        String storage = AppConfig.getString("planit.storage", "mysql");
+        switch (storage) {
+            case "file" -> {
+                FileTodoRepository repository = new FileTodoRepository(storageDir());
+                Runtime.getRuntime().addShutdownHook(new Thread(repository::close, "planit-storage-shutdown"));
+                return repository;
+            }
+            case "replica" -> {
+                ReplicaTodoRepository repository = new ReplicaTodoRepository(storageDir().resolve("replica"));
+                Runtime.getRuntime().addShutdownHook(new Thread(repository::close, "planit-storage-shutdown"));
+                repository.start();
+                return repository;
+            }
+            case "mysql" -> {
+                CachedTodoRepository repository =
+                        new CachedTodoRepository(new MeteredTodoRepository(new TodoDAO()), AppConfig.getInt("planit.cache.maxMonths", 24));
+                // 키워드 색인은 폴러가 기준 버전을 잡은 뒤 만든다 (폴링을 끄면 색인 없이 LIKE 로 검색)
+                if (AppConfig.getBoolean("planit.poll.enabled", true)) {
+                    new ChangePoller(repository).start();
+                }
+                return repository;
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 planit.storage 값: " + storage);
+        }
+    }
+
+    private static Path storageDir() {
+        return Path.of(AppConfig.getString("planit.storage.dir", System.getProperty("user.home") + "/.planit"));
+    }
+}
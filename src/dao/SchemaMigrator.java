@@ -0,0 +1,239 @@
+package dao;
+
+import model.Todo;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.util.List;
+
+/*
+ * 버전 기반 스키마 마이그레이션.
+ * schema_version 테이블에 적용된 버전을 기록하고, 그보다 높은 단계만 순서대로 실행한다.
+ * 각 단계는 여러 번 실행돼도 결과가 같도록(idempotent) 작성한다.
+ * 여러 클라이언트가 동시에 시작해도 한 번에 하나만 적용하도록 MySQL 이름 잠금(GET_LOCK)을 잡고,
+ * 잠금을 쓸 수 없는 DB 에서는 이미 있는 컬럼/인덱스 오류(1060/1061)를 적용된 것으로 본다.
+ */
+class SchemaMigrator {
+
+    private static final String LOCK_NAME = "planit_migrate";
+    private static final int LOCK_TIMEOUT_SECONDS = 30;
+
+    // MySQL: ER_DUP_FIELDNAME, ER_DUP_KEYNAME
+    private static final int DUPLICATE_COLUMN = 1060;
+    private static final int DUPLICATE_INDEX = 1061;
+
+    @FunctionalInterface
+    interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    static class Migration {
+        final int version;
+        final String description;
+        final Step step;
+
+        Migration(int version, String description, Step step) {
+            this.version = version;
+            this.description = description;
+            this.step = step;
+        }
+    }
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "todos 테이블 생성", conn -> execute(conn, """
+                    CREATE TABLE IF NOT EXISTS todos (
+                      id INT PRIMARY KEY AUTO_INCREMENT,
+                      title VARCHAR(255) NOT NULL,
+                      description TEXT,
+                      date DATE NOT NULL,
+                      priority TINYINT NOT NULL,
+                      completed TINYINT(1) NOT NULL DEFAULT 0
+                    )
+                    """)),
+            // findByDate, existsByDate, MIN(priority) WHERE date = ?, 월 요약 GROUP BY date
+            new Migration(2, "날짜+우선순위 인덱스", conn ->
+                    createIndexIfMissing(conn, "todos", "idx_todos_date_priority", "date, priority, id")),
+            // findByFilter 의 ORDER BY priority, date, id 와 키셋 페이지네이션
+            new Migration(3, "우선순위+날짜 인덱스", conn ->
+                    createIndexIfMissing(conn, "todos", "idx_todos_priority_date", "priority, date, id")),
+            // 완료/미완료 필터 + 기간 조건
+            new Migration(4, "완료여부+날짜 인덱스", conn ->
+                    createIndexIfMissing(conn, "todos", "idx_todos_completed_date", "completed, date")),
+            // 오프라인 복제본 동기화: 마지막 동기화 이후 바뀐 행을 updated_at 으로 당겨 옴
+            new Migration(5, "수정 시각 컬럼", conn -> {
+                addColumnIfMissing(conn, "todos", "updated_at",
+                        "TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3)");
+                createIndexIfMissing(conn, "todos", "idx_todos_updated_at", "updated_at");
+            }),
+            // 변경 폴링: 쓰기마다 전역 카운터(todo_clock)를 올려 version 에 기록하고, 삭제는 묘비로 남긴다
+            new Migration(6, "변경 버전 컬럼과 삭제 묘비", conn -> {
+                addColumnIfMissing(conn, "todos", "version", "BIGINT NOT NULL DEFAULT 0");
+                createIndexIfMissing(conn, "todos", "idx_todos_version", "version");
+                execute(conn, """
+                        CREATE TABLE IF NOT EXISTS todo_clock (
+                          id INT PRIMARY KEY,
+                          version BIGINT NOT NULL
+                        )
+                        """);
+                ChangeClock.init(conn);
+                execute(conn, """
+                        CREATE TABLE IF NOT EXISTS todo_tombstones (
+                          id INT PRIMARY KEY,
+                          version BIGINT NOT NULL,
+                          deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                        )
+                        """);
+                createIndexIfMissing(conn, "todo_tombstones", "idx_tombstones_version", "version");
+            }),
+            // 복제본 푸시: 클라이언트가 정한 키로 INSERT 를 한 번만 반영 (커밋 응답을 잃고 다시 보내도 중복 행이 생기지 않음)
+            new Migration(7, "클라이언트 삽입 키", conn -> {
+                addColumnIfMissing(conn, "todos", "client_key", "VARCHAR(36) NULL");
+                createUniqueIndexIfMissing(conn, "todos", "uq_todos_client_key", "client_key");
+            }),
+            // 복제본 충돌 해결: 필드마다 서버에서 마지막으로 바뀐 시각 (기존 행은 행 수정 시각으로 채움)
+            new Migration(8, "필드별 수정 시각", conn -> {
+                StringBuilder backfill = new StringBuilder("UPDATE todos SET ");
+                for (Todo.Field f : Todo.Field.values()) {
+                    String column = TodoDAO.changedAtColumn(f);
+                    addColumnIfMissing(conn, "todos", column, "TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)");
+                    backfill.append(column).append(" = updated_at, ");
+                }
+                execute(conn, backfill.append("updated_at = updated_at").toString());
+            })
+    );
+
+    public void migrate() {
+        try (Connection conn = DBConnector.getConnection()) {
+            execute(conn, """
+                    CREATE TABLE IF NOT EXISTS schema_version (
+                      version INT PRIMARY KEY,
+                      description VARCHAR(255) NOT NULL,
+                      applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                    )
+                    """);
+
+            if (currentVersion(conn) >= MIGRATIONS.get(MIGRATIONS.size() - 1).version) return;
+
+            boolean locked = lock(conn);
+            try {
+                int current = currentVersion(conn);   // 잠금을 기다리는 동안 다른 클라이언트가 적용했을 수 있음
+                for (Migration m : MIGRATIONS) {
+                    if (m.version <= current) continue;
+                    m.step.apply(conn);
+                    recordVersion(conn, m);
+                }
+            } finally {
+                if (locked) unlock(conn);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("스키마 마이그레이션 실패", e);
+        }
+    }
+
+    // MySQL 이 아니면(H2 등) false: 잠금 없이 진행
+    private boolean lock(Connection conn) throws SQLException {
+        if (!conn.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")) return false;
+        try (PreparedStatement ps = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("마이그레이션 잠금을 얻지 못했습니다");
+                }
+            }
+        }
+        return true;
+    }
+
+    private void unlock(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    private int currentVersion(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void recordVersion(Connection conn, Migration m) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description) VALUES (?, ?)";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, m.version);
+            ps.setString(2, m.description);
+            ps.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // 다른 클라이언트가 동시에 같은 단계를 적용하고 기록함
+        }
+    }
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    // MySQL 에는 CREATE INDEX IF NOT EXISTS 가 없으므로 메타데이터로 먼저 확인
+    static void createIndexIfMissing(Connection conn, String table, String index, String columns) throws SQLException {
+        createIndex(conn, "CREATE INDEX ", table, index, columns);
+    }
+
+    static void createUniqueIndexIfMissing(Connection conn, String table, String index, String columns) throws SQLException {
+        createIndex(conn, "CREATE UNIQUE INDEX ", table, index, columns);
+    }
+
+    private static void createIndex(Connection conn, String create, String table, String index, String columns)
+            throws SQLException {
+        if (indexExists(conn, table, index)) return;
+        try {
+            execute(conn, create + index + " ON " + table + " (" + columns + ")");
+        } catch (SQLException e) {
+            if (e.getErrorCode() != DUPLICATE_INDEX) throw e;
+        }
+    }
+
+    static void addColumnIfMissing(Connection conn, String table, String column, String definition) throws SQLException {
+        if (columnExists(conn, table, column)) return;
+        try {
+            execute(conn, "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        } catch (SQLException e) {
+            if (e.getErrorCode() != DUPLICATE_COLUMN) throw e;
+        }
+    }
+
+    private static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet rs = meta.getColumns(conn.getCatalog(), null, name, null)) {
+                while (rs.next()) {
+                    if (column.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean indexExists(Connection conn, String table, String index) throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), null, name, false, false)) {
+                while (rs.next()) {
+                    if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,159 @@
+package dao;
+
+import util.Metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 느린 쿼리 로그. 커넥션 풀의 문장 프록시가 실행 시간(결과를 다 읽을 때까지)을 재서
+ * thresholdMs 이상이면 여기로 보낸다.
+ * - 로그 파일에 한 줄: 시각, 소요 시간, 행 수, 파라미터 타입(값은 남기지 않음), SQL
+ * - SQL 모양별(공백 정규화된 SQL) 횟수/총·최대 시간/최대 행 수를 누적
+ * - explain 이 켜져 있으면 SELECT 모양마다 처음 한 번 EXPLAIN 결과를 함께 남긴다
+ */
+class SlowQueryLog implements SlowQueryLogMXBean {
+
+    private static final long MAX_FILE_BYTES = 5L * 1024 * 1024;
+
+    @FunctionalInterface
+    interface Explainer {
+        String explain() throws Exception;
+    }
+
+    private static final class Shape {
+        final String sql;
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalNanos = new AtomicLong();
+        final AtomicLong maxNanos = new AtomicLong();
+        final AtomicLong maxRows = new AtomicLong(-1);
+        volatile String paramTypes;
+        volatile String explain;
+
+        Shape(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final Path file;
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final AtomicLong slowCount = new AtomicLong();
+
+    SlowQueryLog(long thresholdMs, boolean explain, Path file) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.explain = explain;
+        this.file = file;
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /* rows: 읽은 행 수 또는 변경된 행 수 (모르면 -1) */
+    void record(String sql, List<String> paramTypes, long rows, long elapsedNanos, Explainer explainer) {
+        slowCount.incrementAndGet();
+        Metrics.increment("db.slowQueries");
+
+        String normalized = sql.replaceAll("\\s+", " ").trim();
+        Shape shape = shapes.computeIfAbsent(normalized, Shape::new);
+        shape.count.incrementAndGet();
+        shape.totalNanos.addAndGet(elapsedNanos);
+        shape.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        shape.maxRows.accumulateAndGet(rows, Math::max);
+        shape.paramTypes = paramTypes.toString();
+
+        String plan = null;
+        if (explain && shape.explain == null && normalized.regionMatches(true, 0, "SELECT", 0, 6)) {
+            synchronized (shape) {
+                if (shape.explain == null) {
+                    plan = runExplain(explainer);
+                    shape.explain = plan;
+                }
+            }
+        }
+
+        StringBuilder line = new StringBuilder()
+                .append(LocalDateTime.now()).append('\t')
+                .append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append("ms\t")
+                .append("rows=").append(rows).append('\t')
+                .append("params=").append(paramTypes).append('\t')
+                .append(normalized).append('\n');
+        if (plan != null) {
+            line.append("    explain: ").append(plan).append('\n');
+        }
+        append(line.toString());
+    }
+
+    private static String runExplain(Explainer explainer) {
+        try {
+            return explainer.explain();
+        } catch (Exception e) {
+            return "(EXPLAIN 실패: " + e.getMessage() + ")";
+        }
+    }
+
+    private synchronized void append(String text) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.exists(file) && Files.size(file) > MAX_FILE_BYTES) {
+                Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.writeString(file, text, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("느린 쿼리 로그 쓰기 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    @Override
+    public long getSlowQueryCount() {
+        return slowCount.get();
+    }
+
+    @Override
+    public String getSummary() {
+        List<Shape> sorted = new ArrayList<>(shapes.values());
+        sorted.sort(Comparator.comparingLong((Shape s) -> s.totalNanos.get()).reversed());
+        StringBuilder sb = new StringBuilder();
+        for (Shape s : sorted) {
+            long n = s.count.get();
+            sb.append(n).append("회  total=").append(TimeUnit.NANOSECONDS.toMillis(s.totalNanos.get())).append("ms")
+                    .append("  avg=").append(TimeUnit.NANOSECONDS.toMillis(s.totalNanos.get() / Math.max(1, n))).append("ms")
+                    .append("  max=").append(TimeUnit.NANOSECONDS.toMillis(s.maxNanos.get())).append("ms")
+                    .append("  maxRows=").append(s.maxRows.get())
+                    .append("  params=").append(s.paramTypes)
+                    .append("\n    ").append(s.sql).append('\n');
+            if (s.explain != null) {
+                sb.append("    explain: ").append(s.explain).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        shapes.clear();
+        slowCount.set(0);
+    }
+}
@@ -0,0 +1,14 @@
+package dao;
+
+/* JMX: planit:type=SlowQueryLog */
+public interface SlowQueryLogMXBean {
+
+    long getThresholdMs();
+
+    long getSlowQueryCount();
+
+    /* SQL 모양별 누적 (총 소요 시간 순) */
+    String getSummary();
+
+    void reset();
+}
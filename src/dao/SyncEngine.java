@@ -0,0 +1,387 @@
+package dao;
+
+import model.Todo;
+import util.AppConfig;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * 복제본 ↔ MySQL 동기화 (백그라운드 스레드 하나).
+ * 1) 푸시: 보낼 변경을 id 순서대로 서버에 반영. UPDATE 는 서버 행을 잠그고(FOR UPDATE) 필드별로
+ *    "서버도 base 이후 바뀌었으면 더 나중에 바뀐 쪽"을 택한다. 서버 쪽은 그 필드의 수정 시각(*_changed_at),
+ *    로컬 쪽은 필드별 수정 시각을 서버 시계로 보정한 값으로 비교한다.
+ * 2) 풀: updated_at 이 마지막 동기화 시점 이후인 행을 받아 로컬에 반영.
+ * 3) 서버에서 삭제된 행은 마지막으로 본 버전 이후의 묘비(todo_tombstones)만 읽어 정리한다.
+ *    묘비를 믿을 수 없을 때(처음 동기화, 카운터 초기화, 묘비 보존 기간보다 오래 동기화하지 못함)만
+ *    서버 id 목록 전체와 비교한다. planit.sync.fullCheckEvery 로 주기적인 전체 비교를 켤 수도 있다.
+ * 연결이 안 되면 OFFLINE 으로 표시하고 다음 주기에 다시 시도한다.
+ */
+class SyncEngine implements AutoCloseable {
+
+    private static final int PULL_CHUNK = 1000;
+
+    private final ReplicaTodoRepository replica;
+    private final long intervalMs = AppConfig.getLong("planit.sync.intervalMs", 5000);
+    private final long debounceMs = AppConfig.getLong("planit.sync.debounceMs", 500);
+    private final long overlapMs = AppConfig.getLong("planit.sync.overlapMs", 2000);
+    private final int fullCheckEvery = AppConfig.getInt("planit.sync.fullCheckEvery", 0);   // 0 이면 필요할 때만
+    private final long tombstoneRetentionMs =
+            TimeUnit.DAYS.toMillis(AppConfig.getInt("planit.poll.tombstoneRetentionDays", 30));
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "planit-sync");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    private volatile SyncStatus status = SyncStatus.PENDING;
+    private boolean migrated;
+    private int rounds;
+    private boolean failing;   // 오류가 이어지는 동안에는 한 번만 기록
+
+    SyncEngine(ReplicaTodoRepository replica) {
+        this.replica = replica;
+    }
+
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::syncSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 로컬 쓰기 직후: 잠깐 모았다가 한 번 동기화
+    void requestSync() {
+        publish(status == SyncStatus.OFFLINE ? SyncStatus.OFFLINE : SyncStatus.PENDING);
+        if (requested.compareAndSet(false, true) && !scheduler.isShutdown()) {
+            scheduler.schedule(() -> {
+                requested.set(false);
+                syncSafely();
+            }, debounceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void syncSafely() {
+        Set<LocalDate> changed = new HashSet<>();
+        try {
+            publish(SyncStatus.SYNCING);
+            syncOnce(changed);
+            publish(replica.getPendingCount() == 0 ? SyncStatus.SYNCED : SyncStatus.PENDING);
+            failing = false;
+        } catch (RuntimeException e) {
+            boolean offline = isConnectionProblem(e);
+            publish(offline ? SyncStatus.OFFLINE : SyncStatus.ERROR);
+            if (!offline && !failing) {
+                failing = true;
+                System.err.println("동기화 실패: " + e.getMessage());
+            }
+        } finally {
+            changed.remove(null);
+            ReplicaTodoRepository.SyncListener l = replica.listener();
+            if (!changed.isEmpty() && l != null) {
+                l.onRemoteChange(changed);
+            }
+        }
+    }
+
+    private void syncOnce(Set<LocalDate> changed) {
+        if (!migrated) {
+            new SchemaMigrator().migrate();
+            migrated = true;
+        }
+        try (Connection conn = DBConnector.getConnection()) {
+            long now = serverNow(conn);
+            long offset = now - System.currentTimeMillis();
+            push(conn, offset, changed);
+            pull(conn, changed);
+            boolean fullCheck = fullCheckEvery > 0 && ++rounds % fullCheckEvery == 0;
+            pullDeletes(conn, now, fullCheck, changed);
+        } catch (SQLException e) {
+            throw new RuntimeException("동기화 실패", e);
+        }
+    }
+
+    /* ===== 푸시 ===== */
+
+    private void push(Connection conn, long offset, Set<LocalDate> changed) throws SQLException {
+        for (PendingChange p : replica.pendingSnapshot()) {
+            switch (p.kind) {
+                case INSERT -> pushInsert(conn, p, changed);
+                case UPDATE -> pushUpdate(conn, p, offset, changed);
+                case DELETE -> pushDelete(conn, p);
+            }
+        }
+    }
+
+    /*
+     * client_key 로 INSERT 를 한 번만 반영한다. 앞선 시도가 서버에는 커밋됐는데 결과(서버 id)를
+     * 로컬에 기록하기 전에 죽었거나 커밋 응답을 잃었으면, 그 행을 찾아 현재 로컬 값으로 맞춘다.
+     */
+    private void pushInsert(Connection conn, PendingChange p, Set<LocalDate> changed) throws SQLException {
+        Todo row = replica.localRow(p.id);
+        if (row == null) {
+            replica.dropInsert(p.id, p.generation);
+            return;
+        }
+
+        conn.setAutoCommit(false);
+        try {
+            long version = ChangeClock.next(conn);
+            int newId = findByClientKey(conn, p.clientKey);
+            if (newId > 0) {
+                Set<Todo.Field> all = EnumSet.allOf(Todo.Field.class);
+                Todo existing = row.copy();
+                existing.setId(newId);
+                try (PreparedStatement ps = conn.prepareStatement(TodoDAO.partialUpdateSql(all))) {
+                    TodoDAO.bindFields(ps, existing, all, version);
+                    ps.executeUpdate();
+                }
+            } else {
+                newId = insertRow(conn, row, p.clientKey, version);
+            }
+            conn.commit();
+            int tempId = row.getId();
+            row.setId(newId);
+            replica.insertPushed(tempId, newId, p.generation, row, changed);
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static int findByClientKey(Connection conn, String clientKey) throws SQLException {
+        if (clientKey == null) return 0;
+        try (PreparedStatement ps = conn.prepareStatement("SELECT id FROM todos WHERE client_key = ?")) {
+            ps.setString(1, clientKey);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    private static int insertRow(Connection conn, Todo row, String clientKey, long version) throws SQLException {
+        String sql = "INSERT INTO todos (title, description, date, priority, completed, version, client_key) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, row.getTitle());
+            ps.setString(2, row.getDescription());
+            ps.setDate(3, Date.valueOf(row.getDate()));
+            ps.setInt(4, row.getPriority());
+            ps.setBoolean(5, row.isCompleted());
+            ps.setLong(6, version);
+            ps.setString(7, clientKey);
+            ps.executeUpdate();
+            try (ResultSet rs = ps.getGeneratedKeys()) {
+                if (!rs.next()) {
+                    throw new SQLException("생성된 id 를 받지 못했습니다");
+                }
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private void pushUpdate(Connection conn, PendingChange p, long offset, Set<LocalDate> changed) throws SQLException {
+        Todo mine = replica.localRow(p.id);
+        if (mine == null) return;   // 그사이 로컬에서 삭제됨: 다음 라운드에 DELETE 로 처리
+
+        StringBuilder select = new StringBuilder("SELECT id, title, description, date, priority, completed");
+        for (Todo.Field f : Todo.Field.values()) {
+            select.append(", ").append(TodoDAO.changedAtColumn(f));
+        }
+        select.append(" FROM todos WHERE id = ? FOR UPDATE");
+        conn.setAutoCommit(false);
+        try {
+            Todo remote;
+            Map<Todo.Field, Long> remoteChangedAt = new EnumMap<>(Todo.Field.class);
+            try (PreparedStatement ps = conn.prepareStatement(select.toString())) {
+                ps.setInt(1, p.id);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        conn.commit();
+                        replica.remoteDeleted(p.id, changed);
+                        return;
+                    }
+                    remote = TodoDAO.mapRow(rs);
+                    for (Todo.Field f : Todo.Field.values()) {
+                        remoteChangedAt.put(f, rs.getTimestamp(TodoDAO.changedAtColumn(f)).getTime());
+                    }
+                }
+            }
+
+            // 필드별 last-writer-wins: 서버 값이 base 그대로면 로컬 값, 둘 다 바뀌었으면 그 필드를 더 나중에 바꾼 쪽
+            Set<Todo.Field> push = EnumSet.noneOf(Todo.Field.class);
+            Set<Todo.Field> lost = EnumSet.noneOf(Todo.Field.class);
+            for (Map.Entry<Todo.Field, Long> e : p.changedAt.entrySet()) {
+                Todo.Field f = e.getKey();
+                boolean remoteChanged = p.base != null && !remote.sameValue(f, p.base);
+                if (!remoteChanged || e.getValue() + offset >= remoteChangedAt.get(f)) {
+                    push.add(f);
+                } else {
+                    lost.add(f);
+                }
+            }
+
+            Set<Todo.Field> send = EnumSet.noneOf(Todo.Field.class);
+            for (Todo.Field f : push) {
+                if (!remote.sameValue(f, mine)) send.add(f);
+            }
+            Todo after = remote.copy().patchFrom(mine, push);
+            if (!send.isEmpty()) {
+                try (PreparedStatement ps = conn.prepareStatement(TodoDAO.partialUpdateSql(send))) {
+                    TodoDAO.bindFields(ps, after, send, ChangeClock.next(conn));
+                    ps.executeUpdate();
+                }
+            }
+            conn.commit();
+            replica.updatePushed(p.id, p.generation, after, lost, changed);
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private void pushDelete(Connection conn, PendingChange p) throws SQLException {
+        conn.setAutoCommit(false);
+        try (PreparedStatement tomb = conn.prepareStatement(ChangeClock.TOMBSTONE_SQL);
+             PreparedStatement ps = conn.prepareStatement("DELETE FROM todos WHERE id = ?")) {
+            tomb.setLong(1, ChangeClock.next(conn));
+            tomb.setInt(2, p.id);
+            tomb.executeUpdate();
+            ps.setInt(1, p.id);
+            ps.executeUpdate();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+        replica.deletePushed(p.id, p.generation);
+    }
+
+    /* ===== 풀 ===== */
+
+    // 커밋이 늦게 보이는 행을 놓치지 않도록 overlapMs 만큼 겹쳐서 다시 읽는다 (같은 값이면 로컬에서 무시)
+    private void pull(Connection conn, Set<LocalDate> changed) throws SQLException {
+        long since = Math.max(0, replica.watermark() - overlapMs);
+        String sql = "SELECT id, title, description, date, priority, completed, updated_at FROM todos "
+                + "WHERE updated_at > ? ORDER BY updated_at";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, new Timestamp(since));
+            ps.setFetchSize(PULL_CHUNK);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Todo> chunk = new ArrayList<>(PULL_CHUNK);
+                long maxUpdatedAt = 0;
+                while (rs.next()) {
+                    chunk.add(TodoDAO.mapRow(rs));
+                    maxUpdatedAt = Math.max(maxUpdatedAt, rs.getTimestamp("updated_at").getTime());
+                    if (chunk.size() == PULL_CHUNK) {
+                        replica.applyRemote(chunk, maxUpdatedAt, changed);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    replica.applyRemote(chunk, maxUpdatedAt, changed);
+                }
+            }
+        }
+    }
+
+    // 마지막으로 본 버전 이후의 묘비만 읽는다. head 는 먼저 읽어 두므로 그 뒤의 삭제는 다음 라운드에서 잡힌다
+    private void pullDeletes(Connection conn, long now, boolean fullCheck, Set<LocalDate> changed) throws SQLException {
+        long head = ChangeClock.current(conn);
+        long since = replica.tombstoneVersion();
+        boolean trusted = since >= 0 && head >= since && now - replica.tombstoneSyncedAt() < tombstoneRetentionMs;
+        if (!trusted || fullCheck) {
+            reconcileDeletes(conn, head, now, changed);
+            return;
+        }
+        if (head == since) {
+            replica.tombstonesChecked(now);
+            return;
+        }
+
+        Set<Integer> deleted = new HashSet<>();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT id FROM todo_tombstones WHERE version > ? AND version <= ?")) {
+            ps.setLong(1, since);
+            ps.setLong(2, head);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    deleted.add(rs.getInt(1));
+                }
+            }
+        }
+        replica.applyRemoteDeletes(deleted, head, now, changed);
+    }
+
+    // 묘비를 믿을 수 없을 때만: 서버 id 목록 전체와 비교
+    private void reconcileDeletes(Connection conn, long head, long now, Set<LocalDate> changed) throws SQLException {
+        Set<Integer> ids = new HashSet<>();
+        try (PreparedStatement ps = conn.prepareStatement("SELECT id FROM todos");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        replica.applyRemoteIds(ids, head, now, changed);
+    }
+
+    private static long serverNow(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT CURRENT_TIMESTAMP(3)");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getTimestamp(1).getTime();
+        }
+    }
+
+    /* ===== 상태 ===== */
+
+    private void publish(SyncStatus next) {
+        status = next;
+        ReplicaTodoRepository.SyncListener l = replica.listener();
+        if (l != null) {
+            l.onStatus(next, replica.getPendingCount());
+        }
+    }
+
+    // 연결 실패/대기 시간 초과(SQLState 08, 풀 타임아웃)는 오프라인으로 본다
+    private static boolean isConnectionProblem(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLRecoverableException || t instanceof SQLTimeoutException) {
+                return true;
+            }
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,10 @@
+package dao;
+
+/* 로컬 복제본과 원격 MySQL 의 동기화 상태 */
+public enum SyncStatus {
+    SYNCED,     // 보낼 변경 없음, 마지막 동기화 성공
+    SYNCING,
+    PENDING,    // 보낼 변경이 남아 있음 (곧 동기화)
+    OFFLINE,    // 서버에 연결할 수 없음. 로컬에서 계속 동작
+    ERROR       // 연결은 되지만 동기화 중 오류
+}
@@ -1,41 +1,36 @@
 package dao;
 
+import model.DaySummary;
 import model.FilterOptions;
 import model.Todo;
+import util.AppConfig;
+import util.Cancellation;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class TodoDAO {
+public class TodoDAO implements TodoRepository {
 
-    private final Connection conn;
+    // executeBatch 한 번에 보내는 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    // JDBC fetch size: 결과를 한 번에 다 받지 않고 나눠서 받는다 (URL 에 useCursorFetch=true 필요)
+    private final int fetchSize = AppConfig.getInt("planit.db.fetchSize", 500);
 
     public TodoDAO() {
-        this.conn = DBConnector.getConnection();
-        ensureTodosTableExists();
-    }
-
-    private void ensureTodosTableExists() {
-        String sql = """
-                CREATE TABLE IF NOT EXISTS todos (
-                  id INT PRIMARY KEY AUTO_INCREMENT,
-                  title VARCHAR(255) NOT NULL,
-                  description TEXT,
-                  date DATE NOT NULL,
-                  priority TINYINT NOT NULL,
-                  completed TINYINT(1) NOT NULL DEFAULT 0
-                )
-                """;
-        try (Statement st = conn.createStatement()) {
-            st.execute(sql);
-        } catch (SQLException e) {
-            throw new RuntimeException("todos 테이블 생성/확인 실패", e);
-        }
+        new SchemaMigrator().migrate();
     }
 
-    private Todo mapRow(ResultSet rs) throws SQLException {
+    static Todo mapRow(ResultSet rs) throws SQLException {
         Todo t = new Todo();
         t.setId(rs.getInt("id"));
         Date d = rs.getDate("date");
@@ -44,57 +39,251 @@ public class TodoDAO {
         t.setDescription(rs.getString("description"));
         t.setPriority(rs.getInt("priority"));
         t.setCompleted(rs.getBoolean("completed"));
+        t.clearDirty();
         return t;
     }
 
+    /* ===== 쓰기: 모두 한 트랜잭션 안에서 ChangeClock 버전을 올려 행(또는 묘비)에 기록 ===== */
+
+    @Override
     public void insert(Todo todo) {
-        String sql = "INSERT INTO todos (title, description, date, priority, completed) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            ps.setString(1, todo.getTitle());
-            ps.setString(2, todo.getDescription());
-            ps.setDate(3, Date.valueOf(todo.getDate()));
-            ps.setInt(4, todo.getPriority());
-            ps.setBoolean(5, todo.isCompleted());
-            ps.executeUpdate();
-            try (ResultSet rs = ps.getGeneratedKeys()) {
-                if (rs.next()) {
-                    todo.setId(rs.getInt(1));
+        insertAll(List.of(todo));
+    }
+
+    @Override
+    public void update(Todo todo) {
+        updateAll(List.of(todo));
+    }
+
+    @Override
+    public void updateFields(Todo todo) {
+        updateFieldsAll(List.of(todo));
+    }
+
+    @Override
+    public void delete(int id) {
+        deleteAll(List.of(id));
+    }
+
+    @Override
+    public void insertAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        String sql = "INSERT INTO todos (title, description, date, priority, completed, version) VALUES (?, ?, ?, ?, ?, ?)";
+        try (Connection conn = DBConnector.getConnection()) {
+            conn.setAutoCommit(false);
+            // 생성된 id 는 커밋이 끝난 뒤에 넘긴다: 롤백되면 호출한 쪽 Todo 는 새 행(id 0) 그대로
+            int[] ids = new int[todos.size()];
+            int keyIndex = 0;
+            try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                long version = ChangeClock.next(conn);
+                for (int i = 0; i < todos.size(); i++) {
+                    bindColumns(ps, todos.get(i));
+                    ps.setLong(6, version);
+                    ps.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == todos.size() - 1) {
+                        ps.executeBatch();
+                        try (ResultSet rs = ps.getGeneratedKeys()) {
+                            while (rs.next() && keyIndex < ids.length) {
+                                ids[keyIndex++] = rs.getInt(1);
+                            }
+                        }
+                    }
+                }
+                if (keyIndex != ids.length) {
+                    throw new SQLException("생성된 키 수가 맞지 않습니다: " + keyIndex + " / " + ids.length);
                 }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            for (int i = 0; i < ids.length; i++) {
+                todos.get(i).setId(ids[i]);
+                todos.get(i).clearDirty();
             }
         } catch (SQLException e) {
-            throw new RuntimeException("insert 실패", e);
+            throw new RuntimeException("insertAll 실패", e);
         }
     }
 
-    public void update(Todo todo) {
-        String sql = "UPDATE todos SET title = ?, description = ?, date = ?, priority = ?, completed = ? WHERE id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, todo.getTitle());
-            ps.setString(2, todo.getDescription());
-            ps.setDate(3, Date.valueOf(todo.getDate()));
-            ps.setInt(4, todo.getPriority());
-            ps.setBoolean(5, todo.isCompleted());
-            ps.setInt(6, todo.getId());
-            ps.executeUpdate();
+    @Override
+    public void updateAll(List<Todo> todos) {
+        if (todos.isEmpty()) return;
+        // 행 전체를 덮어쓰므로 모든 필드의 수정 시각을 갱신
+        String sql = "UPDATE todos SET title = ?, description = ?, date = ?, priority = ?, completed = ?, version = ?"
+                + ", title_changed_at = CURRENT_TIMESTAMP(3), description_changed_at = CURRENT_TIMESTAMP(3)"
+                + ", date_changed_at = CURRENT_TIMESTAMP(3), priority_changed_at = CURRENT_TIMESTAMP(3)"
+                + ", completed_changed_at = CURRENT_TIMESTAMP(3) WHERE id = ?";
+        try (Connection conn = DBConnector.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                long version = ChangeClock.next(conn);
+                for (int i = 0; i < todos.size(); i++) {
+                    Todo todo = todos.get(i);
+                    bindColumns(ps, todo);
+                    ps.setLong(6, version);
+                    ps.setInt(7, todo.getId());
+                    ps.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == todos.size() - 1) {
+                        ps.executeBatch();
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            todos.forEach(Todo::clearDirty);
         } catch (SQLException e) {
-            throw new RuntimeException("update 실패", e);
+            throw new RuntimeException("updateAll 실패", e);
         }
     }
 
-    public void delete(int id) {
-        String sql = "DELETE FROM todos WHERE id = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+    // 바뀐 컬럼 조합이 같은 것끼리 묶어 조합마다 한 번씩 배치 실행 (전체는 한 트랜잭션)
+    @Override
+    public void updateFieldsAll(List<Todo> todos) {
+        Map<Set<Todo.Field>, List<Todo>> byShape = new LinkedHashMap<>();
+        for (Todo todo : todos) {
+            Set<Todo.Field> fields = todo.getDirtyFields();
+            if (!fields.isEmpty()) {
+                byShape.computeIfAbsent(fields, f -> new ArrayList<>()).add(todo);
+            }
+        }
+        if (byShape.isEmpty()) return;
+
+        try (Connection conn = DBConnector.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                long version = ChangeClock.next(conn);
+                for (Map.Entry<Set<Todo.Field>, List<Todo>> e : byShape.entrySet()) {
+                    Set<Todo.Field> fields = e.getKey();
+                    List<Todo> group = e.getValue();
+                    try (PreparedStatement ps = conn.prepareStatement(partialUpdateSql(fields))) {
+                        for (int i = 0; i < group.size(); i++) {
+                            bindFields(ps, group.get(i), fields, version);
+                            ps.addBatch();
+                            if ((i + 1) % BATCH_SIZE == 0 || i == group.size() - 1) {
+                                ps.executeBatch();
+                            }
+                        }
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            for (List<Todo> group : byShape.values()) {
+                group.forEach(Todo::clearDirty);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("updateFieldsAll 실패", e);
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<Integer> ids) {
+        if (ids.isEmpty()) return;
+        try (Connection conn = DBConnector.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement tomb = conn.prepareStatement(ChangeClock.TOMBSTONE_SQL);
+                 PreparedStatement ps = conn.prepareStatement("DELETE FROM todos WHERE id = ?")) {
+                long version = ChangeClock.next(conn);
+                int n = 0;
+                for (Integer id : ids) {
+                    tomb.setLong(1, version);
+                    tomb.setInt(2, id);
+                    tomb.addBatch();
+                    ps.setInt(1, id);
+                    ps.addBatch();
+                    if (++n % BATCH_SIZE == 0 || n == ids.size()) {
+                        tomb.executeBatch();
+                        ps.executeBatch();
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("deleteAll 실패", e);
+        }
+    }
+
+    // INSERT/UPDATE 공통 컬럼 1~5 바인딩
+    private void bindColumns(PreparedStatement ps, Todo todo) throws SQLException {
+        ps.setString(1, todo.getTitle());
+        ps.setString(2, todo.getDescription());
+        ps.setDate(3, Date.valueOf(todo.getDate()));
+        ps.setInt(4, todo.getPriority());
+        ps.setBoolean(5, todo.isCompleted());
+    }
+
+    /* ===== 부분 UPDATE: 바뀐 컬럼만 SET (필드별 수정 시각도 함께) ===== */
+
+    static String partialUpdateSql(Set<Todo.Field> fields) {
+        StringBuilder sql = new StringBuilder("UPDATE todos SET ");
+        for (Todo.Field f : fields) {
+            sql.append(columnOf(f)).append(" = ?, ");
+        }
+        for (Todo.Field f : fields) {
+            sql.append(changedAtColumn(f)).append(" = CURRENT_TIMESTAMP(3), ");
+        }
+        return sql.append("version = ? WHERE id = ?").toString();
+    }
+
+    static String changedAtColumn(Todo.Field field) {
+        return columnOf(field) + "_changed_at";
+    }
+
+    private static String columnOf(Todo.Field field) {
+        return switch (field) {
+            case TITLE -> "title";
+            case DESCRIPTION -> "description";
+            case DATE -> "date";
+            case PRIORITY -> "priority";
+            case COMPLETED -> "completed";
+        };
+    }
+
+    // fields 순서(EnumSet 순서)대로 바인딩하고 마지막에 version, id
+    static void bindFields(PreparedStatement ps, Todo todo, Set<Todo.Field> fields, long version) throws SQLException {
+        int idx = 1;
+        for (Todo.Field f : fields) {
+            switch (f) {
+                case TITLE -> ps.setString(idx, todo.getTitle());
+                case DESCRIPTION -> ps.setString(idx, todo.getDescription());
+                case DATE -> ps.setDate(idx, Date.valueOf(todo.getDate()));
+                case PRIORITY -> ps.setInt(idx, todo.getPriority());
+                case COMPLETED -> ps.setBoolean(idx, todo.isCompleted());
+            }
+            idx++;
+        }
+        ps.setLong(idx++, version);
+        ps.setInt(idx, todo.getId());
+    }
+
+    @Override
+    public Todo findById(int id) {
+        String sql = "SELECT id, title, description, date, priority, completed FROM todos WHERE id = ?";
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, id);
-            ps.executeUpdate();
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? mapRow(rs) : null;
+            }
         } catch (SQLException e) {
-            throw new RuntimeException("delete 실패", e);
+            throw new RuntimeException("findById 실패", e);
         }
     }
 
+    @Override
     public List<Todo> findByDate(LocalDate date) {
         String sql = "SELECT id, title, description, date, priority, completed FROM todos WHERE date = ? ORDER BY priority, id";
         List<Todo> list = new ArrayList<>();
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setDate(1, Date.valueOf(date));
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -107,66 +296,218 @@ public class TodoDAO {
         return list;
     }
 
+    @Override
     public List<Todo> findByFilter(FilterOptions filter) {
-        StringBuilder sb = new StringBuilder(
-                "SELECT id, title, description, date, priority, completed FROM todos WHERE 1=1"
-        );
+        if (filter.getCandidateIds() != null && filter.getCandidateIds().isEmpty()) {
+            return new ArrayList<>();
+        }
         List<Object> params = new ArrayList<>();
+        String sql = filterSql(filter, params, false, false);
+
+        List<Todo> result = new ArrayList<>();
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            bindParams(ps, params);
+            ps.setFetchSize(fetchSize);
 
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    checkCancelled();
+                    result.add(mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("findByFilter 실패", e);
+        }
+        return result;
+    }
+
+    /*
+     * (priority, date, id) 키셋 페이지네이션. after 가 null 이면 첫 페이지,
+     * 아니면 after 보다 뒤에 오는 행을 정렬 순서대로 최대 limit 개 가져온다.
+     */
+    @Override
+    public List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit) {
+        if (filter.getCandidateIds() != null && filter.getCandidateIds().isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Object> params = new ArrayList<>();
+        String sql = filterSql(filter, params, true, after != null);
+
+        if (after != null) {
+            params.add(after.getPriority());
+            params.add(after.getPriority());
+            params.add(after.getDate());
+            params.add(after.getDate());
+            params.add(after.getId());
+        }
+        params.add(limit);
+
+        List<Todo> result = new ArrayList<>();
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            bindParams(ps, params);
+            ps.setFetchSize(Math.min(limit, fetchSize));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    checkCancelled();
+                    result.add(mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("findPageByFilter 실패", e);
+        }
+        return result;
+    }
+
+    /* ===== 검색 SQL 정규화 =====
+     * 조건 5개(키워드/완료/시작일/종료일/중요도)의 유무로 32가지 모양이 나오고,
+     * 후보 id IN 목록은 길이를 2의 거듭제곱으로 올려(마지막 id 반복) 모양 수를 제한한다.
+     * 같은 모양이면 항상 같은 SQL 문자열이 되므로 문장 캐시/서버 prepared statement 가 재사용된다.
+     */
+
+    private static final int HAS_KEYWORD = 1;
+    private static final int HAS_COMPLETED = 1 << 1;
+    private static final int HAS_START = 1 << 2;
+    private static final int HAS_END = 1 << 3;
+    private static final int HAS_PRIORITY = 1 << 4;
+    private static final int PAGED = 1 << 5;
+    private static final int PAGED_AFTER = 1 << 6;
+    private static final int IN_SHIFT = 8;   // 그 위 비트: IN 목록 길이의 log2 + 1 (0 이면 IN 없음)
+
+    private static final int MIN_IN_BUCKET = 8;
+
+    private static final String[] FILTER_WHERE = new String[32];
+    private static final Map<Integer, String> FILTER_SQL = new ConcurrentHashMap<>();
+
+    static {
+        for (int mask = 0; mask < FILTER_WHERE.length; mask++) {
+            StringBuilder sb = new StringBuilder();
+            if ((mask & HAS_KEYWORD) != 0) sb.append(" AND (title LIKE ? OR description LIKE ?)");
+            if ((mask & HAS_COMPLETED) != 0) sb.append(" AND completed = ?");
+            if ((mask & HAS_START) != 0) sb.append(" AND date >= ?");
+            if ((mask & HAS_END) != 0) sb.append(" AND date <= ?");
+            if ((mask & HAS_PRIORITY) != 0) sb.append(" AND priority = ?");
+            FILTER_WHERE[mask] = sb.toString();
+        }
+    }
+
+    // 조건 값은 params 에 SQL 의 ? 순서대로 채우고, 모양에 맞는 (캐시된) SQL 을 돌려준다
+    private static String filterSql(FilterOptions filter, List<Object> params, boolean paged, boolean after) {
+        int shape = paged ? PAGED : 0;
+        if (after) shape |= PAGED_AFTER;
+
+        if (filter.getCandidateIds() != null) {
+            int bucket = inBucket(filter.getCandidateIds().size());
+            shape |= (Integer.numberOfTrailingZeros(bucket) + 1) << IN_SHIFT;
+            Integer last = null;
+            for (Integer id : filter.getCandidateIds()) {
+                params.add(id);
+                last = id;
+            }
+            for (int i = filter.getCandidateIds().size(); i < bucket; i++) {
+                params.add(last);
+            }
+        }
         if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
-            sb.append(" AND title LIKE ?");
-            params.add("%" + filter.getKeyword().trim() + "%");
+            String pattern = "%" + filter.getKeyword().trim() + "%";
+            shape |= HAS_KEYWORD;
+            params.add(pattern);
+            params.add(pattern);
         }
         if (filter.getCompleted() != null) {
-            sb.append(" AND completed = ?");
+            shape |= HAS_COMPLETED;
             params.add(filter.getCompleted());
         }
         if (filter.getStartDate() != null) {
-            sb.append(" AND date >= ?");
+            shape |= HAS_START;
             params.add(filter.getStartDate());
         }
         if (filter.getEndDate() != null) {
-            sb.append(" AND date <= ?");
+            shape |= HAS_END;
             params.add(filter.getEndDate());
         }
         if (filter.getPriority() != null) {
-            sb.append(" AND priority = ?");
+            shape |= HAS_PRIORITY;
             params.add(filter.getPriority());
         }
+        return FILTER_SQL.computeIfAbsent(shape, TodoDAO::buildFilterSql);
+    }
 
-        sb.append(" ORDER BY priority, date, id");
+    /* 메트릭용 모양 이름: 켜진 조건을 + 로 이음 (예: keyword+start+end), 조건이 없으면 all */
+    static String filterShape(FilterOptions filter) {
+        StringBuilder sb = new StringBuilder();
+        if (filter.getCandidateIds() != null) sb.append("+ids");
+        if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) sb.append("+keyword");
+        if (filter.getCompleted() != null) sb.append("+completed");
+        if (filter.getStartDate() != null) sb.append("+start");
+        if (filter.getEndDate() != null) sb.append("+end");
+        if (filter.getPriority() != null) sb.append("+priority");
+        return sb.isEmpty() ? "all" : sb.substring(1);
+    }
 
-        List<Todo> result = new ArrayList<>();
-        try (PreparedStatement ps = conn.prepareStatement(sb.toString())) {
-
-            for (int i = 0; i < params.size(); i++) {
-                Object p = params.get(i);
-                int idx = i + 1;
-
-                if (p instanceof LocalDate ld) {
-                    ps.setDate(idx, Date.valueOf(ld));
-                } else if (p instanceof Boolean b) {
-                    ps.setBoolean(idx, b);
-                } else {
-                    ps.setObject(idx, p);
-                }
+    private static String buildFilterSql(int shape) {
+        StringBuilder sb = new StringBuilder(
+                "SELECT id, title, description, date, priority, completed FROM todos WHERE 1=1"
+        );
+        int inBits = shape >>> IN_SHIFT;
+        if (inBits != 0) {
+            int n = 1 << (inBits - 1);
+            sb.append(" AND id IN (?");
+            for (int i = 1; i < n; i++) {
+                sb.append(", ?");
             }
+            sb.append(")");
+        }
+        sb.append(FILTER_WHERE[shape & (FILTER_WHERE.length - 1)]);
 
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    result.add(mapRow(rs));
-                }
+        if ((shape & PAGED_AFTER) != 0) {
+            sb.append(" AND (priority > ? OR (priority = ? AND (date > ? OR (date = ? AND id > ?))))");
+        }
+        sb.append(" ORDER BY priority, date, id");
+        if ((shape & PAGED) != 0) {
+            sb.append(" LIMIT ?");
+        }
+        return sb.toString();
+    }
+
+    // n 이상인 가장 작은 2의 거듭제곱 (최소 MIN_IN_BUCKET)
+    private static int inBucket(int n) {
+        int bucket = MIN_IN_BUCKET;
+        while (bucket < n) {
+            bucket <<= 1;
+        }
+        return bucket;
+    }
+
+    // 취소된 검색(TaskRunner 의 취소 플래그)은 남은 행을 더 읽지 않고 중단
+    private void checkCancelled() {
+        if (Cancellation.isCancelled()) {
+            throw new CancellationException("조회가 취소되었습니다");
+        }
+    }
+
+    private void bindParams(PreparedStatement ps, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            Object p = params.get(i);
+            int idx = i + 1;
+
+            if (p instanceof LocalDate ld) {
+                ps.setDate(idx, Date.valueOf(ld));
+            } else if (p instanceof Boolean b) {
+                ps.setBoolean(idx, b);
+            } else {
+                ps.setObject(idx, p);
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("findByFilter 실패", e);
         }
-        return result;
     }
 
-    
+    @Override
     public boolean existsByDate(LocalDate date) {
         String sql = "SELECT 1 FROM todos WHERE date = ? LIMIT 1";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setDate(1, Date.valueOf(date));
             try (ResultSet rs = ps.executeQuery()) {
                 return rs.next();
@@ -176,9 +517,11 @@ public class TodoDAO {
         }
     }
 
+    @Override
     public Integer getHighestPriorityForDate(LocalDate date) {
         String sql = "SELECT MIN(priority) FROM todos WHERE date = ?";
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setDate(1, Date.valueOf(date));
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
@@ -195,6 +538,45 @@ public class TodoDAO {
         }
     }
 
+    @Override
+    public DaySummary getDaySummary(LocalDate date) {
+        String sql = "SELECT MIN(priority), COUNT(*), SUM(completed) FROM todos WHERE date = ?";
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDate(1, Date.valueOf(date));
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && rs.getInt(2) > 0) {
+                    return new DaySummary(date, rs.getInt(1), rs.getInt(2), rs.getInt(3));
+                }
+                return null;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("getDaySummary 실패", e);
+        }
+    }
 
+    /* 한 달치 날짜별 요약을 한 번의 GROUP BY 쿼리로 조회 (일정이 없는 날은 맵에 없음) */
+    @Override
+    public Map<LocalDate, DaySummary> getMonthSummary(LocalDate month) {
+        String sql = "SELECT date, MIN(priority), COUNT(*), SUM(completed) FROM todos "
+                + "WHERE date BETWEEN ? AND ? GROUP BY date";
+        LocalDate first = month.withDayOfMonth(1);
+        LocalDate last = month.withDayOfMonth(month.lengthOfMonth());
 
+        Map<LocalDate, DaySummary> result = new HashMap<>();
+        try (Connection conn = DBConnector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDate(1, Date.valueOf(first));
+            ps.setDate(2, Date.valueOf(last));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate date = rs.getDate(1).toLocalDate();
+                    result.put(date, new DaySummary(date, rs.getInt(2), rs.getInt(3), rs.getInt(4)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("getMonthSummary 실패", e);
+        }
+        return result;
+    }
 }
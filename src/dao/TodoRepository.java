@@ -0,0 +1,46 @@
+package dao;
+
+import model.DaySummary;
+import model.FilterOptions;
+import model.Todo;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface TodoRepository {
+
+    void insert(Todo todo);
+
+    void update(Todo todo);
+
+    /* 바뀐(dirty) 컬럼만 UPDATE. 바뀐 것이 없으면 아무것도 하지 않음 */
+    void updateFields(Todo todo);
+
+    void delete(int id);
+
+    void insertAll(List<Todo> todos);
+
+    void updateAll(List<Todo> todos);
+
+    void updateFieldsAll(List<Todo> todos);
+
+    void deleteAll(Collection<Integer> ids);
+
+    Todo findById(int id);
+
+    List<Todo> findByDate(LocalDate date);
+
+    List<Todo> findByFilter(FilterOptions filter);
+
+    List<Todo> findPageByFilter(FilterOptions filter, Todo after, int limit);
+
+    boolean existsByDate(LocalDate date);
+
+    Integer getHighestPriorityForDate(LocalDate date);
+
+    DaySummary getDaySummary(LocalDate date);
+
+    Map<LocalDate, DaySummary> getMonthSummary(LocalDate month);
+}
@@ -2,11 +2,15 @@ package main;
 
 import javax.swing.SwingUtilities;
 
+import controller.EdtWatchdog;
 import dao.DBConnector;
+import util.Metrics;
 import view.MainFrame;
 
 public class Main {
     public static void main(String[] args) {
+        Metrics.start();
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(() -> new MainFrame());
     }
 }
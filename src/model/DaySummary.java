@@ -0,0 +1,34 @@
+package model;
+
+import java.time.LocalDate;
+
+public class DaySummary {
+
+    private final LocalDate date;
+    private final int highestPriority;
+    private final int count;
+    private final int completedCount;
+
+    public DaySummary(LocalDate date, int highestPriority, int count, int completedCount) {
+        this.date = date;
+        this.highestPriority = highestPriority;
+        this.count = count;
+        this.completedCount = completedCount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getHighestPriority() {
+        return highestPriority;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+}
@@ -1,6 +1,10 @@
 package model;
 
+import util.TextUtils;
+
 import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
 
 public class FilterOptions {
 
@@ -11,6 +15,9 @@ public class FilterOptions {
 
     private Integer priority;      
 
+    // 키워드 색인으로 미리 좁힌 후보 id (null 이면 제한 없음)
+    private Set<Integer> candidateIds;
+
     public String getKeyword() {
         return keyword;
     }
@@ -50,4 +57,62 @@ public class FilterOptions {
     public void setPriority(Integer priority) {
         this.priority = priority;
     }
+
+    public Set<Integer> getCandidateIds() {
+        return candidateIds;
+    }
+
+    public void setCandidateIds(Set<Integer> candidateIds) {
+        this.candidateIds = candidateIds;
+    }
+
+    /* 키워드만 빼고 나머지 조건이 같은지 */
+    public boolean sameExceptKeyword(FilterOptions other) {
+        return other != null
+                && Objects.equals(startDate, other.startDate)
+                && Objects.equals(endDate, other.endDate)
+                && Objects.equals(completed, other.completed)
+                && Objects.equals(priority, other.priority)
+                && Objects.equals(candidateIds, other.candidateIds);
+    }
+
+    public FilterOptions copy() {
+        FilterOptions f = new FilterOptions();
+        f.keyword = keyword;
+        f.startDate = startDate;
+        f.endDate = endDate;
+        f.completed = completed;
+        f.priority = priority;
+        f.candidateIds = candidateIds;
+        return f;
+    }
+
+    /* findByFilter 의 WHERE 조건과 같은 판정을 메모리에서 수행 (키워드는 *_ai_ci LIKE 처럼 TextUtils.fold 로 비교) */
+    public boolean matches(Todo todo) {
+        if (keyword != null && !keyword.isBlank()) {
+            String kw = TextUtils.fold(keyword.trim());
+            boolean hit = TextUtils.containsFolded(todo.getTitle(), kw)
+                    || TextUtils.containsFolded(todo.getDescription(), kw);
+            if (!hit) {
+                return false;
+            }
+        }
+        if (candidateIds != null && !candidateIds.contains(todo.getId())) {
+            return false;
+        }
+        if (completed != null && todo.isCompleted() != completed) {
+            return false;
+        }
+        LocalDate date = todo.getDate();
+        if (startDate != null && (date == null || date.isBefore(startDate))) {
+            return false;
+        }
+        if (endDate != null && (date == null || date.isAfter(endDate))) {
+            return false;
+        }
+        if (priority != null && todo.getPriority() != priority) {
+            return false;
+        }
+        return true;
+    }
 }
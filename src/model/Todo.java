@@ -1,15 +1,33 @@
 package model;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 public class Todo {
 
+    // findByDate 정렬 순서
+    public static final Comparator<Todo> BY_PRIORITY_ID =
+            Comparator.comparingInt(Todo::getPriority).thenComparingInt(Todo::getId);
+
+    // findByFilter 정렬 순서
+    public static final Comparator<Todo> BY_PRIORITY_DATE_ID =
+            Comparator.comparingInt(Todo::getPriority)
+                    .thenComparing(Todo::getDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparingInt(Todo::getId);
+
+    // 부분 UPDATE 용: 마지막으로 DB 와 맞춘 뒤 값이 바뀐 컬럼
+    public enum Field { TITLE, DESCRIPTION, DATE, PRIORITY, COMPLETED }
+
     private int id;
     private String title;
     private String description;
     private LocalDate date;
     private int priority;      
     private boolean completed;
+    private final EnumSet<Field> dirty = EnumSet.noneOf(Field.class);
 
     public int getId() {
         return id;
@@ -24,6 +42,7 @@ public class Todo {
     }
 
     public void setTitle(String title) {
+        if (!Objects.equals(this.title, title)) dirty.add(Field.TITLE);
         this.title = title;
     }
 
@@ -32,6 +51,7 @@ public class Todo {
     }
 
     public void setDescription(String description) {
+        if (!Objects.equals(this.description, description)) dirty.add(Field.DESCRIPTION);
         this.description = description;
     }
 
@@ -40,6 +60,7 @@ public class Todo {
     }
 
     public void setDate(LocalDate date) {
+        if (!Objects.equals(this.date, date)) dirty.add(Field.DATE);
         this.date = date;
     }
 
@@ -48,6 +69,7 @@ public class Todo {
     }
 
     public void setPriority(int priority) {
+        if (this.priority != priority) dirty.add(Field.PRIORITY);
         this.priority = priority;
     }
 
@@ -56,6 +78,72 @@ public class Todo {
     }
 
     public void setCompleted(boolean completed) {
+        if (this.completed != completed) dirty.add(Field.COMPLETED);
         this.completed = completed;
     }
+
+    public Set<Field> getDirtyFields() {
+        return EnumSet.copyOf(dirty);
+    }
+
+    public boolean isDirty() {
+        return !dirty.isEmpty();
+    }
+
+    public void clearDirty() {
+        dirty.clear();
+    }
+
+    public void clearDirty(Field field) {
+        dirty.remove(field);
+    }
+
+    // 값은 같아도 다음 부분 UPDATE 에 이 컬럼을 포함시킨다
+    public void markDirty(Field field) {
+        dirty.add(field);
+    }
+
+    /* src 의 fields 값만 이 객체에 덮어쓴다. 결과는 저장된 상태로 간주 (변경 내역 없음) */
+    public Todo patchFrom(Todo src, Set<Field> fields) {
+        for (Field f : fields) {
+            switch (f) {
+                case TITLE -> title = src.title;
+                case DESCRIPTION -> description = src.description;
+                case DATE -> date = src.date;
+                case PRIORITY -> priority = src.priority;
+                case COMPLETED -> completed = src.completed;
+            }
+        }
+        dirty.clear();
+        return this;
+    }
+
+    public boolean sameValue(Field field, Todo other) {
+        return switch (field) {
+            case TITLE -> Objects.equals(title, other.title);
+            case DESCRIPTION -> Objects.equals(description, other.description);
+            case DATE -> Objects.equals(date, other.date);
+            case PRIORITY -> priority == other.priority;
+            case COMPLETED -> completed == other.completed;
+        };
+    }
+
+    public boolean sameValues(Todo other) {
+        for (Field f : Field.values()) {
+            if (!sameValue(f, other)) return false;
+        }
+        return true;
+    }
+
+    /* 복사본은 변경 내역 없이 시작 (복사본에 가한 변경만 추적) */
+    public Todo copy() {
+        Todo t = new Todo();
+        t.id = id;
+        t.title = title;
+        t.description = description;
+        t.date = date;
+        t.priority = priority;
+        t.completed = completed;
+        return t;
+    }
 }
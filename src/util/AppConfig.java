@@ -0,0 +1,61 @@
+package util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/* 설정값: -D 시스템 프로퍼티 > planit.properties 파일 > 코드 기본값 순으로 적용 */
+public class AppConfig {
+
+    private static final Properties props = load();
+
+    private static Properties load() {
+        Properties p = new Properties();
+        Path file = Path.of(System.getProperty("planit.config", "planit.properties"));
+        if (Files.isReadable(file)) {
+            try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                p.load(r);
+            } catch (IOException e) {
+                System.err.println("설정 파일 읽기 실패: " + file + " (" + e.getMessage() + ")");
+            }
+        }
+        return p;
+    }
+
+    public static String getString(String key, String defaultValue) {
+        String v = System.getProperty(key);
+        if (v == null) {
+            v = props.getProperty(key);
+        }
+        return (v == null || v.isBlank()) ? defaultValue : v.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String v = getString(key, null);
+        if (v == null) return defaultValue;
+        try {
+            return Integer.parseInt(v);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String v = getString(key, null);
+        if (v == null) return defaultValue;
+        try {
+            return Long.parseLong(v);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String v = getString(key, null);
+        if (v == null) return defaultValue;
+        return Boolean.parseBoolean(v);
+    }
+}
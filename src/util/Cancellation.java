@@ -0,0 +1,32 @@
+package util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * 작업 스레드별 취소 플래그.
+ * 가상 스레드를 인터럽트하면 소켓 I/O 에 막혀 있던 커넥션이 닫혀 버리므로(풀 커넥션 손실)
+ * 인터럽트 대신 플래그를 세우고, 오래 도는 루프가 isCancelled() 로 확인해 스스로 멈춘다.
+ */
+public final class Cancellation {
+
+    private static final ThreadLocal<AtomicBoolean> current = new ThreadLocal<>();
+
+    private Cancellation() {
+    }
+
+    public static <T> T run(AtomicBoolean flag, Callable<T> work) throws Exception {
+        AtomicBoolean previous = current.get();
+        current.set(flag);
+        try {
+            return work.call();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    public static boolean isCancelled() {
+        AtomicBoolean flag = current.get();
+        return flag != null && flag.get();
+    }
+}
@@ -0,0 +1,116 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * HDR 방식의 로그-선형 히스토그램 (락 없음).
+ * 2의 거듭제곱 구간마다 SUB 개의 칸으로 나누므로 어느 크기에서든 상대 오차가 1/SUB(약 3%) 이내이고,
+ * 칸 수가 고정(약 1900개)이라 기록 비용이 값 크기와 무관하다.
+ */
+public class Histogram implements HistogramMXBean {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB + (63 - SUB_BITS) * SUB;
+
+    private final String unit;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public Histogram(String unit) {
+        this.unit = unit;
+    }
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    private static int index(long v) {
+        if (v < SUB) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        return SUB + shift * SUB + (int) (v >>> shift) - SUB;
+    }
+
+    // 칸에 들어가는 가장 큰 값
+    private static long upperBound(int i) {
+        if (i < SUB) return i;
+        int shift = (i - SUB) / SUB;
+        long lower = (long) (SUB + (i - SUB) % SUB) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /* p (0~100) 백분위 값. 칸의 상한을 돌려주되 실제 최댓값은 넘지 않는다 */
+    public long percentile(double p) {
+        long total = count.sum();
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(total * p / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public String getUnit() {
+        return unit;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMean() {
+        long n = count.sum();
+        return (n == 0) ? 0 : (double) sum.sum() / n;
+    }
+
+    @Override
+    public long getP50() {
+        return percentile(50);
+    }
+
+    @Override
+    public long getP90() {
+        return percentile(90);
+    }
+
+    @Override
+    public long getP99() {
+        return percentile(99);
+    }
+
+    @Override
+    public long getP999() {
+        return percentile(99.9);
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    // 기록 중인 값과 겹치면 한두 건이 어긋날 수 있다 (모니터링 용도라 허용)
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+}
@@ -0,0 +1,23 @@
+package util;
+
+/* JMX 에 노출되는 히스토그램 속성. 단위는 getUnit() (ns 또는 count) */
+public interface HistogramMXBean {
+
+    String getUnit();
+
+    long getCount();
+
+    double getMean();
+
+    long getP50();
+
+    long getP90();
+
+    long getP99();
+
+    long getP999();
+
+    long getMax();
+
+    void reset();
+}
@@ -0,0 +1,171 @@
+package util;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/*
+ * 앱 전역 메트릭 레지스트리: 카운터, 히스토그램(지연 시간은 ns), 게이지.
+ * 이름으로 처음 쓸 때 만들어지고, start() 이후에는 JMX(planit:type=...)로 보이며
+ * planit.metrics.logIntervalMs 를 주면 그 간격마다 표준 출력에 요약을 찍는다 (기본 0, 끔).
+ */
+public final class Metrics {
+
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private static volatile MBeanServer jmx;
+    private static ScheduledExecutorService logger;
+
+    private Metrics() {
+    }
+
+    /* ===== 기록 ===== */
+
+    public static void increment(String name) {
+        counters.computeIfAbsent(name, n -> new LongAdder()).increment();
+    }
+
+    public static void add(String name, long delta) {
+        counters.computeIfAbsent(name, n -> new LongAdder()).add(delta);
+    }
+
+    /* 값 분포 (조회 행 수 등) */
+    public static Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> register(n, new Histogram("count")));
+    }
+
+    /* 지연 시간 분포 (ns) */
+    public static Histogram latency(String name) {
+        return histograms.computeIfAbsent(name, n -> register(n, new Histogram("ns")));
+    }
+
+    public static void recordNanos(String name, long startNanos) {
+        latency(name).record(System.nanoTime() - startNanos);
+    }
+
+    /* 예외가 나도 걸린 시간은 기록한다 */
+    public static void record(String name, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            recordNanos(name, start);
+        }
+    }
+
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /* ===== 노출 ===== */
+
+    public static synchronized void start() {
+        if (jmx == null && AppConfig.getBoolean("planit.metrics.jmx", true)) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.registerMBean(new Registry(), new ObjectName("planit:type=Metrics"));
+            } catch (JMException e) {
+                System.err.println("메트릭 JMX 등록 실패: " + e.getMessage());
+            }
+            jmx = server;
+            histograms.forEach(Metrics::register);
+        }
+
+        long interval = AppConfig.getLong("planit.metrics.logIntervalMs", 0);
+        if (logger == null && interval > 0) {
+            logger = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "planit-metrics");
+                t.setDaemon(true);
+                return t;
+            });
+            logger.scheduleAtFixedRate(() -> System.out.print(dump()), interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Histogram register(String name, Histogram histogram) {
+        MBeanServer server = jmx;
+        if (server != null) {
+            try {
+                server.registerMBean(histogram,
+                        new ObjectName("planit:type=Histogram,name=" + ObjectName.quote(name)));
+            } catch (JMException e) {
+                // 이미 등록됨
+            }
+        }
+        return histogram;
+    }
+
+    public static String dump() {
+        StringBuilder sb = new StringBuilder("[metrics] ").append(LocalDateTime.now()).append('\n');
+        new TreeMap<>(counters).forEach((name, v) ->
+                sb.append("  counter ").append(name).append(" = ").append(v.sum()).append('\n'));
+        new TreeMap<>(gauges).forEach((name, v) ->
+                sb.append("  gauge ").append(name).append(" = ").append(read(v)).append('\n'));
+        new TreeMap<>(histograms).forEach((name, h) -> {
+            if (h.getCount() == 0) return;
+            sb.append("  ").append(name).append(" n=").append(h.getCount())
+                    .append(" mean=").append(format(h, (long) h.getMean()))
+                    .append(" p50=").append(format(h, h.getP50()))
+                    .append(" p90=").append(format(h, h.getP90()))
+                    .append(" p99=").append(format(h, h.getP99()))
+                    .append(" max=").append(format(h, h.getMax()))
+                    .append('\n');
+        });
+        return sb.toString();
+    }
+
+    private static String format(Histogram h, long value) {
+        return "ns".equals(h.getUnit()) ? String.format("%.2fms", value / 1e6) : String.valueOf(value);
+    }
+
+    private static long read(LongSupplier gauge) {
+        try {
+            return gauge.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    public static void reset() {
+        counters.values().forEach(LongAdder::reset);
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    private static final class Registry implements MetricsMXBean {
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> result = new TreeMap<>();
+            counters.forEach((name, v) -> result.put(name, v.sum()));
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getGauges() {
+            Map<String, Long> result = new TreeMap<>();
+            gauges.forEach((name, v) -> result.put(name, read(v)));
+            return result;
+        }
+
+        @Override
+        public String dump() {
+            return Metrics.dump();
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package util;
+
+import java.util.Map;
+
+/* JMX: planit:type=Metrics */
+public interface MetricsMXBean {
+
+    Map<String, Long> getCounters();
+
+    Map<String, Long> getGauges();
+
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,42 @@
+package util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/*
+ * 키워드 비교용 정규화. DB 의 *_ai_ci 정렬 LIKE 처럼 대소문자와 악센트를 무시한다.
+ * 메모리 필터(FilterOptions.matches), 입력 중 좁히기, 키워드 색인이 모두 이것으로 비교해야 SQL 결과와 같아진다.
+ */
+public class TextUtils {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    // 소문자(Locale.ROOT) + 악센트 제거. 한글 음절은 NFD 로 풀렸다가 NFC 로 다시 합쳐진다
+    public static String fold(String text) {
+        if (text == null) return null;
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return Normalizer.normalize(MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+    }
+
+    public static boolean containsFolded(String text, String foldedKeyword) {
+        return text != null && fold(text).contains(foldedKeyword);
+    }
+
+    /*
+     * 영문/숫자/한글 외의 글자(ß, 한자 등)가 있는지. 이런 글자는 정렬 규칙상 어떤 검색어와 같아질지
+     * fold 로 알 수 없으므로 메모리 비교 결과가 SQL 과 다를 수 있다.
+     */
+    public static boolean hasUnfoldableLetters(String text) {
+        if (text == null) return false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 128 && Character.isLetterOrDigit(c) && !isHangul(c)) return true;
+        }
+        return false;
+    }
+
+    public static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -91,6 +91,12 @@ public class UIStyle {
                 : new Color(220, 180, 40);
     }
 
+    public static Color getSelectionBackground() {
+        return darkMode
+                ? new Color(70, 74, 84)
+                : new Color(220, 220, 230);
+    }
+
     public static Color getFieldBackground() {
         return darkMode ? new Color(40, 44, 52) : Color.WHITE;
     }
@@ -130,11 +136,7 @@ public class UIStyle {
                 l.setOpaque(true);
 
                 if (isSelected) {
-                    l.setBackground(
-                            UIStyle.isDarkMode()
-                                    ? new Color(70, 74, 84)  
-                                    : new Color(220, 220, 230) 
-                    );
+                    l.setBackground(UIStyle.getSelectionBackground());
                 } else {
                     l.setBackground(UIStyle.getFieldBackground());
                 }
@@ -1,12 +1,16 @@
 package view;
 
 import controller.MainController;
+import model.DaySummary;
 import util.DateUtils;
+import util.Metrics;
 import util.UIStyle;
 
 import javax.swing.*;
 import java.awt.*;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
 public class CalendarViewPanel extends JPanel {
     private JLabel monthTitle;
@@ -17,6 +21,7 @@ public class CalendarViewPanel extends JPanel {
     private JLabel yearSuffixLabel; 
     private JLabel monthSuffixLabel; 
     private JLabel[] weekdayLabels = new JLabel[7];
+    private final DayButton[] dayCells = new DayButton[6 * 7];
 
 
     private final int OUTER_MARGIN = 30;
@@ -26,6 +31,9 @@ public class CalendarViewPanel extends JPanel {
     private final MainController controller;
     private LocalDate currentMonth;
 
+    private LocalDate renderedMonth;
+    private Map<LocalDate, DaySummary> summaries = Map.of();
+
     public CalendarViewPanel(MainController controller) {
         this.controller = controller;
         this.currentMonth = DateUtils.getToday().withDayOfMonth(1);
@@ -91,8 +99,19 @@ public class CalendarViewPanel extends JPanel {
 
         centerPanel.add(headerPanel, BorderLayout.NORTH);
 
-        dayPanel = new JPanel(new GridLayout(0, 7));
+        // 6주 x 7일 칸을 한 번만 만들고, 이후에는 날짜/우선순위만 바꿔서 다시 그린다
+        dayPanel = new JPanel(new GridLayout(6, 7));
         dayPanel.setOpaque(false);
+        for (int i = 0; i < dayCells.length; i++) {
+            DayButton cell = new DayButton();
+            cell.addActionListener(e -> {
+                if (cell.getDate() != null) {
+                    controller.onDateSelected(cell.getDate());
+                }
+            });
+            dayCells[i] = cell;
+            dayPanel.add(cell);
+        }
         centerPanel.add(dayPanel, BorderLayout.CENTER);
 
         add(centerPanel, BorderLayout.CENTER);
@@ -103,7 +122,32 @@ public class CalendarViewPanel extends JPanel {
     public void refresh() {
         renderCalendar();    // 날짜 부분 다시 그림
     }
+
+    public void applyTheme() {
+        renderDays(summaries);    // DB 재조회 없이 색만 다시 적용
+    }
     
+    /* 저장/삭제 후 영향받은 날짜 칸 하나만 갱신 */
+    public void updateDay(LocalDate date, DaySummary summary) {
+        if (date == null || renderedMonth == null
+                || date.getYear() != renderedMonth.getYear() || date.getMonth() != renderedMonth.getMonth()) {
+            return;
+        }
+
+        Map<LocalDate, DaySummary> updated = new HashMap<>(summaries);
+        if (summary != null) {
+            updated.put(date, summary);
+        } else {
+            updated.remove(date);
+        }
+        summaries = updated;
+
+        DayButton cell = dayCells[DateUtils.getFirstDayOffset(renderedMonth) + date.getDayOfMonth() - 1];
+        cell.setDay(date, summary != null ? summary.getHighestPriority() : null,
+                DateUtils.isSameDate(date, DateUtils.getToday()));
+        cell.repaint();
+    }
+
     private void styleNavButton(JButton btn) {
         btn.setFocusPainted(false);
         btn.setMargin(new Insets(2, 8, 2, 8));
@@ -114,7 +158,33 @@ public class CalendarViewPanel extends JPanel {
     }
 
     private void renderCalendar() {
-	    dayPanel.removeAll();
+        LocalDate month = currentMonth;
+
+        // 미리 읽어 둔 달이면 기다림 없이 바로 그림
+        Map<LocalDate, DaySummary> cached = controller.peekMonthSummary(month);
+        if (cached != null) {
+            renderDays(cached);
+            controller.prefetchAround(month);
+            return;
+        }
+
+        // 달이 바뀌었으면 요약을 기다리지 않고 날짜부터 그림 (우선순위 점은 로딩 후 표시)
+        if (!month.equals(renderedMonth)) {
+            renderDays(Map.of());
+        }
+
+        controller.loadMonthSummary(month).thenAccept(loaded -> {
+            if (month.equals(currentMonth)) {
+                renderDays(loaded);
+                controller.prefetchAround(month);
+            }
+        });
+    }
+
+    private void renderDays(Map<LocalDate, DaySummary> summaries) {
+        long start = System.nanoTime();
+        this.summaries = summaries;
+        this.renderedMonth = currentMonth;
 
 	    yearTitle.setText(String.valueOf(currentMonth.getYear()));
 	    monthTitle.setText(String.valueOf(currentMonth.getMonthValue()));
@@ -146,68 +216,79 @@ public class CalendarViewPanel extends JPanel {
 	    int daysInMonth = DateUtils.getDaysInMonth(currentMonth);
 	    LocalDate today = DateUtils.getToday();
 
-        for (int i = 0; i < offset; i++) {
-            dayPanel.add(new JLabel(""));
-        }
+        for (int i = 0; i < dayCells.length; i++) {
+            int day = i - offset + 1;
+            if (day < 1 || day > daysInMonth) {
+                dayCells[i].setDay(null, null, false);
+                continue;
+            }
 
-        for (int day = 1; day <= daysInMonth; day++) {
             LocalDate date = currentMonth.withDayOfMonth(day);
-            Integer highestPriority = controller.getHighestPriorityForDate(date);
-            boolean isToday = DateUtils.isSameDate(date, today);
-
-            DayButton btn = new DayButton(String.valueOf(day), date, highestPriority, isToday);
-
-            btn.addActionListener(e -> controller.onDateSelected(date));
-
-            dayPanel.add(btn);
+            DaySummary summary = summaries.get(date);
+            Integer highestPriority = (summary != null) ? summary.getHighestPriority() : null;
+            dayCells[i].setDay(date, highestPriority, DateUtils.isSameDate(date, today));
         }
 
-        dayPanel.revalidate();
         dayPanel.repaint();
+        Metrics.recordNanos("view.calendar.render", start);
     }
 
+    /* 재사용되는 날짜 칸. 글자도 직접 그려서 setText/setFont 로 인한 레이아웃 재계산이 없다 */
     private static class DayButton extends JButton {
-        private final LocalDate date;
-        private final Integer highestPriority;
-        private final boolean isToday;
+        private LocalDate date;
+        private Integer highestPriority;
+        private boolean isToday;
 
-        public DayButton(String text, LocalDate date, Integer highestPriority, boolean isToday) {
-            super(text);
-            this.date = date;
-            this.highestPriority = highestPriority;
-            this.isToday = isToday;
+        private final Font plainFont;
+        private final Font boldFont;
 
+        public DayButton() {
             setFocusPainted(false);
             setBorderPainted(false);
             setContentAreaFilled(false);
             setOpaque(false);
-            setFont(getFont().deriveFont(Font.PLAIN, 13f));
 
-            setForeground(UIStyle.getTextPrimary());
+            plainFont = getFont().deriveFont(Font.PLAIN, 13f);
+            boldFont = plainFont.deriveFont(Font.BOLD);
+        }
 
-            switch (date.getDayOfWeek()) {
-                case SUNDAY -> setForeground(UIStyle.getSundayColor());
-                case SATURDAY -> setForeground(UIStyle.getSaturdayColor());
-            }
-            
-            if (isToday) {
-                setForeground(UIStyle.getTodayColor());
-                setFont(getFont().deriveFont(Font.BOLD));
-            }
+        public LocalDate getDate() {
+            return date;
+        }
 
-            if (highestPriority != null) {
-                setFont(getFont().deriveFont(Font.BOLD));
-            }
+        public void setDay(LocalDate date, Integer highestPriority, boolean isToday) {
+            this.date = date;
+            this.highestPriority = highestPriority;
+            this.isToday = isToday;
         }
 
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
+            if (date == null) return;
 
-            if (highestPriority != null) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
+            Color textColor = UIStyle.getTextPrimary();
+            switch (date.getDayOfWeek()) {
+                case SUNDAY -> textColor = UIStyle.getSundayColor();
+                case SATURDAY -> textColor = UIStyle.getSaturdayColor();
+            }
+            if (isToday) {
+                textColor = UIStyle.getTodayColor();
+            }
+
+            String text = String.valueOf(date.getDayOfMonth());
+            g2.setFont((isToday || highestPriority != null) ? boldFont : plainFont);
+            g2.setColor(textColor);
+            FontMetrics fm = g2.getFontMetrics();
+            int tx = (getWidth() - fm.stringWidth(text)) / 2;
+            int ty = (getHeight() - fm.getHeight()) / 2 + fm.getAscent();
+            g2.drawString(text, tx, ty);
+
+            if (highestPriority != null) {
                 int d = 8;
                 int x = (getWidth() - d) / 2;
                 int y = getHeight() - d - 4;
@@ -227,12 +308,20 @@ public class CalendarViewPanel extends JPanel {
                 g2.setColor(UIStyle.getBackground());
                 g2.setStroke(new BasicStroke(1f));
                 g2.drawOval(x, y, d, d);
-
-                g2.dispose();
             }
+
+            g2.dispose();
         }
     }
 
+    // 배경 + 날짜 칸 전체를 그리는 데 걸린 시간
+    @Override
+    public void paint(Graphics g) {
+        long start = System.nanoTime();
+        super.paint(g);
+        Metrics.recordNanos("view.calendar.paint", start);
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         Graphics2D g2 = (Graphics2D) g.create();
@@ -1,7 +1,7 @@
 package view;
 
 import controller.MainController;
-import dao.TodoDAO;
+import dao.RepositoryFactory;
 import util.UIStyle;
 
 import javax.swing.*;
@@ -9,6 +9,8 @@ import javax.swing.plaf.basic.BasicSplitPaneDivider;
 import javax.swing.plaf.basic.BasicSplitPaneUI;
 
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 public class MainFrame extends JFrame {
 
@@ -23,8 +25,13 @@ public class MainFrame extends JFrame {
 
         getContentPane().setBackground(UIStyle.getBackground());
 
-        TodoDAO dao = new TodoDAO();
-        controller = new MainController(dao);
+        controller = new MainController(RepositoryFactory.create());
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                controller.shutdown();
+            }
+        });
 
         SearchPanel searchPanel = new SearchPanel(controller);
         add(searchPanel, BorderLayout.NORTH);
@@ -68,6 +75,12 @@ public class MainFrame extends JFrame {
         controller.setCalendarView(calendarPanel);
         controller.setListView(listPanel);
 
+        if (controller.isReplicated()) {
+            SyncStatusLabel syncStatus = new SyncStatusLabel(controller);
+            add(syncStatus, BorderLayout.SOUTH);
+            controller.setSyncStatusView(syncStatus);
+        }
+
         setLocationRelativeTo(null);
         setVisible(true);
     }
@@ -5,6 +5,8 @@ import model.FilterOptions;
 import util.UIStyle;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 
 public class SearchPanel extends JPanel {
@@ -19,6 +21,10 @@ public class SearchPanel extends JPanel {
     private JLabel appTitleLabel;
     private JLabel searchLabel;
 
+    // 입력이 멈춘 뒤 이 시간이 지나면 검색 (타이핑 중에는 요청을 보내지 않음)
+    private static final int DEBOUNCE_MS = 250;
+    private final Timer debounceTimer;
+
     private enum FilterMode { ALL, COMPLETED, NOT_COMPLETED }
     private FilterMode filterMode = FilterMode.ALL;
 
@@ -47,7 +53,28 @@ public class SearchPanel extends JPanel {
         
         searchField = new JTextField(18);
         UIStyle.styleTextField(searchField);
-        searchField.addActionListener(e -> applyFilter());
+        debounceTimer = new Timer(DEBOUNCE_MS, e -> searchAsYouType());
+        debounceTimer.setRepeats(false);
+
+        searchField.addActionListener(e -> {
+            debounceTimer.stop();
+            applyFilter();
+        });
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                debounceTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                debounceTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
 
         filterButton = new JButton("전체");
         advancedButton = new JButton("고급검색");
@@ -113,6 +140,14 @@ public class SearchPanel extends JPanel {
     }
 
     private void applyFilter() {
+        controller.applyFilter(buildFilter());
+    }
+
+    private void searchAsYouType() {
+        controller.searchAsYouType(buildFilter());
+    }
+
+    private FilterOptions buildFilter() {
         FilterOptions f = new FilterOptions();
         String keyword = searchField.getText().trim();
         if (!keyword.isEmpty()) f.setKeyword(keyword);
@@ -121,8 +156,7 @@ public class SearchPanel extends JPanel {
             case COMPLETED -> f.setCompleted(true);
             case NOT_COMPLETED -> f.setCompleted(false);
         }
-
-        controller.applyFilter(f);
+        return f;
     }
 
     private void toggleTheme() {
@@ -0,0 +1,51 @@
+package view;
+
+import controller.MainController;
+import dao.SyncStatus;
+import util.UIStyle;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/* 복제본 모드에서 창 아래쪽에 표시하는 동기화 상태. 클릭하면 바로 동기화 */
+public class SyncStatusLabel extends JLabel {
+
+    private SyncStatus status = SyncStatus.PENDING;
+
+    public SyncStatusLabel(MainController controller) {
+        setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        setBorder(BorderFactory.createEmptyBorder(4, 12, 6, 12));
+        setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        setToolTipText("클릭하면 지금 동기화합니다");
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                controller.syncNow();
+            }
+        });
+        setStatus(SyncStatus.PENDING, 0);
+    }
+
+    public void setStatus(SyncStatus status, int pending) {
+        this.status = status;
+        String suffix = (pending > 0) ? " (보낼 변경 " + pending + "건)" : "";
+        switch (status) {
+            case SYNCED -> setText("● 동기화됨");
+            case SYNCING -> setText("● 동기화 중..." + suffix);
+            case PENDING -> setText("● 동기화 대기" + suffix);
+            case OFFLINE -> setText("● 오프라인 - 로컬에 저장 중" + suffix);
+            case ERROR -> setText("● 동기화 오류" + suffix);
+        }
+        applyTheme();
+    }
+
+    public void applyTheme() {
+        setForeground(switch (status) {
+            case SYNCED, SYNCING, PENDING -> UIStyle.getTextSecondary();
+            case OFFLINE -> UIStyle.getPriorityMediumColor();
+            case ERROR -> UIStyle.getPriorityHighColor();
+        });
+    }
+}
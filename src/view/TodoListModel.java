@@ -0,0 +1,82 @@
+package view;
+
+import model.Todo;
+
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/* 조회 결과 리스트를 그대로 감싸는 ListModel (행 수만큼 컴포넌트를 만들지 않음) */
+class TodoListModel extends AbstractListModel<Todo> {
+
+    private List<Todo> todos = new ArrayList<>();
+
+    public void setTodos(List<Todo> todos) {
+        int oldSize = this.todos.size();
+        this.todos = todos;
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        if (!todos.isEmpty()) {
+            fireIntervalAdded(this, 0, todos.size() - 1);
+        }
+    }
+
+    public void append(List<Todo> more) {
+        if (more.isEmpty()) return;
+        int start = todos.size();
+        todos.addAll(more);
+        fireIntervalAdded(this, start, todos.size() - 1);
+    }
+
+    public List<Todo> getTodos() {
+        return todos;
+    }
+
+    public void fireTodoChanged(int index) {
+        fireContentsChanged(this, index, index);
+    }
+
+    public void fireAllChanged() {
+        if (!todos.isEmpty()) {
+            fireContentsChanged(this, 0, todos.size() - 1);
+        }
+    }
+
+    public int indexOfId(int id) {
+        for (int i = 0; i < todos.size(); i++) {
+            if (todos.get(i).getId() == id) return i;
+        }
+        return -1;
+    }
+
+    /* 같은 id 가 있으면 빼고, 정렬 순서에 맞는 위치에 다시 넣는다 */
+    public int upsert(Todo todo, Comparator<Todo> order) {
+        remove(todo.getId());
+        int pos = Collections.binarySearch(todos, todo, order);
+        if (pos < 0) pos = -pos - 1;
+        todos.add(pos, todo);
+        fireIntervalAdded(this, pos, pos);
+        return pos;
+    }
+
+    public boolean remove(int id) {
+        int index = indexOfId(id);
+        if (index < 0) return false;
+        todos.remove(index);
+        fireIntervalRemoved(this, index, index);
+        return true;
+    }
+
+    @Override
+    public int getSize() {
+        return todos.size();
+    }
+
+    @Override
+    public Todo getElementAt(int index) {
+        return todos.get(index);
+    }
+}
@@ -3,22 +3,36 @@ package view;
 import controller.MainController;
 import model.Todo;
 import util.DateUtils;
+import util.Metrics;
 import util.UIStyle;
+import util.Validator;
 
 import javax.swing.*;
 import javax.swing.border.Border;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class TodoListViewPanel extends JPanel {
 
-    private JPanel listContainer;
+    private static final int ROW_HEIGHT = 51;
+    private static final int CHECK_AREA_WIDTH = 30;
+
+    private final TodoListModel listModel = new TodoListModel();
+    private final TodoCellRenderer cellRenderer = new TodoCellRenderer();
+    private JList<Todo> todoList;
     private JButton addButton;
     private JLabel titleLabel;
+    private JLabel loadingLabel;
+    private JPanel headerPanel;
     private JPanel scrollWrapper;
     private JPanel btnPanel;
     private JScrollPane scrollPane;
@@ -28,8 +42,8 @@ public class TodoListViewPanel extends JPanel {
     private final int ARC_SIZE = 40;
 
     private final MainController controller;
-    private List<Todo> currentTodos = new ArrayList<>();
     private LocalDate currentDateForNew = null;
+    private boolean hasMore = false;
 
     public TodoListViewPanel(MainController controller) {
         this.controller = controller;
@@ -42,13 +56,51 @@ public class TodoListViewPanel extends JPanel {
 
         titleLabel = new JLabel("Todo List");
         titleLabel.setFont(new Font("맑은 고딕", Font.BOLD, 18));
-        add(titleLabel, BorderLayout.NORTH);
 
-        listContainer = new JPanel();
-        listContainer.setLayout(new BoxLayout(listContainer, BoxLayout.Y_AXIS));
+        loadingLabel = new JLabel("불러오는 중...");
+        loadingLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        loadingLabel.setVisible(false);
+
+        headerPanel = new JPanel(new BorderLayout());
+        headerPanel.setOpaque(false);
+        headerPanel.add(titleLabel, BorderLayout.WEST);
+        headerPanel.add(loadingLabel, BorderLayout.EAST);
+        add(headerPanel, BorderLayout.NORTH);
+
+        // 보이는 행만 렌더러 하나로 그리는 가상화 리스트
+        todoList = new JList<>(listModel);
+        todoList.setCellRenderer(cellRenderer);
+        todoList.setFixedCellHeight(ROW_HEIGHT);
+        // Shift/Ctrl 클릭으로 여러 개 선택, Ctrl+A 전체 선택 (JList 기본 동작)
+        todoList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        todoList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                onListClicked(e);
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                maybeShowBulkMenu(e);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                maybeShowBulkMenu(e);
+            }
+        });
+        todoList.getInputMap(JComponent.WHEN_FOCUSED)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_DELETE, 0), "deleteSelected");
+        todoList.getActionMap().put("deleteSelected", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                deleteSelected();
+            }
+        });
 
-        scrollPane = new JScrollPane(listContainer);
+        scrollPane = new JScrollPane(todoList);
         scrollPane.setBorder(null);
+        scrollPane.getVerticalScrollBar().getModel().addChangeListener(e -> requestMoreIfNearEnd());
 
         scrollWrapper = new JPanel(new BorderLayout());
         scrollWrapper.add(scrollPane);
@@ -75,18 +127,19 @@ public class TodoListViewPanel extends JPanel {
 
     public void applyTheme() {
         titleLabel.setForeground(UIStyle.getTextPrimary());
+        loadingLabel.setForeground(UIStyle.getTextSecondary());
 
         Color cardBg = UIStyle.getCardBackground();
         Color borderColor = UIStyle.getCardBorder();
 
-        listContainer.setBackground(cardBg);
+        todoList.setBackground(cardBg);
         scrollWrapper.setBackground(cardBg);
         scrollPane.getViewport().setBackground(cardBg);
 
         btnPanel.setBackground(cardBg);
         addButton.setForeground(UIStyle.getTextSecondary());
 
-        setTodoList(currentTodos, currentDateForNew != null);
+        todoList.repaint();
     }
 
     private void openNewTodoDialog() {
@@ -100,132 +153,185 @@ public class TodoListViewPanel extends JPanel {
         new TodoFormDialog(frame, controller, null, baseDate);
     }
 
+    public void setLoading(boolean loading) {
+        loadingLabel.setVisible(loading);
+        todoList.setEnabled(!loading);
+        setCursor(loading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+    }
+
     public void showTodosForDate(LocalDate date, List<Todo> todos) {
         this.currentDateForNew = date;
+        this.hasMore = false;
         setTodoList(todos, true);
     }
 
     public void showTodos(List<Todo> todos) {
+        showTodos(todos, false);
+    }
+
+    public void showTodos(List<Todo> todos, boolean hasMore) {
         this.currentDateForNew = null;
+        this.hasMore = hasMore;
         setTodoList(todos, false);
     }
 
-    private void setTodoList(List<Todo> todos, boolean showDateInItem) {
-        this.currentTodos = new ArrayList<>(todos);
-        listContainer.removeAll();
+    public void appendTodos(List<Todo> todos, boolean hasMore) {
+        this.hasMore = hasMore;
+        listModel.append(todos);
+    }
 
-        for (Todo t : currentTodos) {
-            JPanel item = createTodoItemPanel(t, showDateInItem);
-            listContainer.add(item);
-            listContainer.add(Box.createVerticalStrut(5));
+    // 남은 행이 한 화면 이하로 보이면 다음 페이지 요청
+    private void requestMoreIfNearEnd() {
+        if (!hasMore) return;
+        BoundedRangeModel m = scrollPane.getVerticalScrollBar().getModel();
+        if (m.getValue() + m.getExtent() * 2 >= m.getMaximum()) {
+            controller.loadMoreTodos();
         }
+    }
 
-        listContainer.revalidate();
-        listContainer.repaint();
+    public List<Todo> getTodos() {
+        return new ArrayList<>(listModel.getTodos());
     }
 
-    private JPanel createTodoItemPanel(Todo todo, boolean showDate) {
-        JPanel itemPanel = new JPanel(new BorderLayout(10, 0));
-        itemPanel.setBackground(UIStyle.getCardBackground());
-        itemPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 50));
-        itemPanel.setBorder(BorderFactory.createEmptyBorder(0, 0, 6, 0));
+    /* 저장된 한 건만 현재 목록에 반영 (전체 재조회 없이) */
+    public void upsertTodo(Todo todo, Comparator<Todo> order) {
+        int index = listModel.upsert(todo, order);
+        todoList.ensureIndexIsVisible(index);
+    }
 
-        JPanel circle = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                if (todo.isCompleted()) {
-                    g2.setColor(UIStyle.getAccent());
-                    g2.fillOval(2, 10, 22, 22);
-                } else {
-                    g2.setColor(UIStyle.getTextSecondary());
-                    g2.setStroke(new BasicStroke(1.5f));
-                    g2.drawOval(2, 10, 22, 22);
-                }
-            }
-        };
-        circle.setPreferredSize(new Dimension(30, 40));
-        circle.setBackground(UIStyle.getCardBackground());
+    public void removeTodo(int id) {
+        listModel.remove(id);
+    }
+
+    private void setTodoList(List<Todo> todos, boolean showDateInItem) {
+        long start = System.nanoTime();
+        cellRenderer.showDate = showDateInItem;
+        listModel.setTodos(new ArrayList<>(todos));
+        Metrics.recordNanos("view.list.render", start);
+    }
+
+    /* ===== 여러 개 선택 후 일괄 작업 ===== */
+
+    private void maybeShowBulkMenu(MouseEvent e) {
+        if (!e.isPopupTrigger() || !todoList.isEnabled()) return;
 
-        StringBuilder sb = new StringBuilder();
-        if (showDate && todo.getDate() != null) {
-            sb.append("[").append(DateUtils.dateToUiString(todo.getDate())).append("] ");
+        // 선택되지 않은 행에서 우클릭하면 그 행만 선택
+        int index = todoList.locationToIndex(e.getPoint());
+        if (index >= 0 && !todoList.isSelectedIndex(index)) {
+            todoList.setSelectedIndex(index);
         }
-        sb.append(todo.getTitle());
-
-        final String baseText = sb.toString();
-        final JLabel textLabel = new JLabel();
-        textLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
-        textLabel.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, UIStyle.getCardBorder()));
-
-        if (todo.isCompleted()) {
-            textLabel.setText("<html><strike>" + baseText + "</strike></html>");
-            textLabel.setForeground(UIStyle.getTextSecondary());
-        } else {
-            textLabel.setText(baseText);
-            textLabel.setForeground(UIStyle.getTextPrimary());
+        if (todoList.isSelectionEmpty()) return;
+
+        int count = todoList.getSelectedIndices().length;
+        JPopupMenu menu = new JPopupMenu();
+
+        JMenuItem header = new JMenuItem(count + "개 선택됨");
+        header.setEnabled(false);
+        menu.add(header);
+        menu.addSeparator();
+
+        JMenuItem complete = new JMenuItem("완료로 표시");
+        complete.addActionListener(ev -> controller.setCompletedAll(todoList.getSelectedValuesList(), true));
+        menu.add(complete);
+
+        JMenuItem uncomplete = new JMenuItem("미완료로 표시");
+        uncomplete.addActionListener(ev -> controller.setCompletedAll(todoList.getSelectedValuesList(), false));
+        menu.add(uncomplete);
+
+        JMenuItem reschedule = new JMenuItem("날짜 변경...");
+        reschedule.addActionListener(ev -> rescheduleSelected());
+        menu.add(reschedule);
+
+        JMenu priority = new JMenu("중요도 변경");
+        String[] names = {"상", "중", "하"};
+        for (int i = 0; i < names.length; i++) {
+            int value = i + 1;
+            JMenuItem item = new JMenuItem(names[i]);
+            item.addActionListener(ev -> controller.changePriorityAll(todoList.getSelectedValuesList(), value));
+            priority.add(item);
         }
+        menu.add(priority);
 
-        circle.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                boolean newVal = !todo.isCompleted();
-                todo.setCompleted(newVal);
-                controller.updateTodoCompleted(todo, newVal);
-                circle.repaint();
-                if (newVal) {
-                    textLabel.setText("<html><strike>" + baseText + "</strike></html>");
-                    textLabel.setForeground(UIStyle.getTextSecondary());
-                } else {
-                    textLabel.setText(baseText);
-                    textLabel.setForeground(UIStyle.getTextPrimary());
-                }
+        menu.addSeparator();
+
+        JMenuItem selectAll = new JMenuItem("전체 선택");
+        selectAll.addActionListener(ev -> {
+            if (listModel.getSize() > 0) {
+                todoList.setSelectionInterval(0, listModel.getSize() - 1);
             }
         });
+        menu.add(selectAll);
 
-        MouseAdapter editListener = new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                if (e.getClickCount() == 2 && SwingUtilities.isLeftMouseButton(e)) {
-                    openEditTodoDialog(todo);
-                }
-            }
-        };
-        itemPanel.addMouseListener(editListener);
-        textLabel.addMouseListener(editListener);
+        JMenuItem delete = new JMenuItem("삭제");
+        delete.addActionListener(ev -> deleteSelected());
+        menu.add(delete);
 
-        JPanel priorityCircle = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                Color priorityColor;
-                int priority = todo.getPriority();
-                if (priority == 1) {
-                    priorityColor = UIStyle.getPriorityHighColor();
-                } else if (priority == 2) {
-                    priorityColor = UIStyle.getPriorityMediumColor();
-                } else {
-                    priorityColor = UIStyle.getPriorityLowColor();
-                }
-
-                g2.setColor(priorityColor);
-                g2.fillOval(4, 12, 16, 16);
-            }
-        };
-        priorityCircle.setPreferredSize(new Dimension(24, 40));
-        priorityCircle.setBackground(UIStyle.getCardBackground());
+        menu.show(todoList, e.getX(), e.getY());
+    }
+
+    private void rescheduleSelected() {
+        List<Todo> selected = todoList.getSelectedValuesList();
+        if (selected.isEmpty()) return;
 
-        itemPanel.add(circle, BorderLayout.WEST);
-        itemPanel.add(textLabel, BorderLayout.CENTER);
-        itemPanel.add(priorityCircle, BorderLayout.EAST);
+        LocalDate base = (currentDateForNew != null) ? currentDateForNew : DateUtils.getToday();
+        String input = (String) JOptionPane.showInputDialog(this,
+                selected.size() + "개 일정을 옮길 날짜 (yyyy-MM-dd)", "날짜 변경",
+                JOptionPane.PLAIN_MESSAGE, null, null, DateUtils.dateToString(base));
+        if (input == null) return;
 
-        return itemPanel;
+        if (!Validator.isValidDate(input)) {
+            JOptionPane.showMessageDialog(this, "날짜 형식이 올바르지 않습니다. (예: 2025-01-31)");
+            return;
+        }
+        controller.rescheduleAll(selected, DateUtils.stringToDate(input));
+    }
+
+    private void deleteSelected() {
+        List<Todo> selected = todoList.getSelectedValuesList();
+        if (selected.isEmpty()) return;
+
+        boolean confirmed = ConfirmDialog.showDeleteConfirm(this, selected.size() + "개의 일정을 삭제할까요?");
+        if (confirmed) {
+            controller.deleteAll(selected);
+        }
+    }
+
+    /* 일괄 작업 결과로 목록 전체를 바꿀 때: 스크롤 위치와 남아 있는 선택은 유지 */
+    public void replaceTodos(List<Todo> todos) {
+        Set<Integer> selectedIds = new HashSet<>();
+        for (Todo t : todoList.getSelectedValuesList()) {
+            selectedIds.add(t.getId());
+        }
+
+        Point viewPos = scrollPane.getViewport().getViewPosition();
+        long start = System.nanoTime();
+        listModel.setTodos(new ArrayList<>(todos));
+
+        for (int i = 0; i < todos.size(); i++) {
+            if (selectedIds.contains(todos.get(i).getId())) {
+                todoList.addSelectionInterval(i, i);
+            }
+        }
+        scrollPane.getViewport().setViewPosition(viewPos);
+        Metrics.recordNanos("view.list.render", start);
+    }
+
+    private void onListClicked(MouseEvent e) {
+        if (!SwingUtilities.isLeftMouseButton(e) || !todoList.isEnabled()) return;
+
+        int index = todoList.locationToIndex(e.getPoint());
+        if (index < 0) return;
+        Rectangle bounds = todoList.getCellBounds(index, index);
+        if (bounds == null || !bounds.contains(e.getPoint())) return;
+
+        Todo todo = listModel.getElementAt(index);
+        if (e.isShiftDown() || e.isControlDown() || e.isMetaDown()) return;   // 선택만 변경
+        if (e.getX() - bounds.x < CHECK_AREA_WIDTH) {
+            controller.updateTodoCompleted(todo, !todo.isCompleted());
+            listModel.fireTodoChanged(index);
+        } else if (e.getClickCount() == 2) {
+            openEditTodoDialog(todo);
+        }
     }
 
     private void openEditTodoDialog(Todo todo) {
@@ -234,6 +340,90 @@ public class TodoListViewPanel extends JPanel {
         new TodoFormDialog(frame, controller, todo, todo.getDate());
     }
 
+    /* 모든 행을 이 컴포넌트 하나로 그린다 (완료 원, 제목, 우선순위 점) */
+    private static class TodoCellRenderer extends JComponent implements ListCellRenderer<Todo> {
+        private final Font textFont = new Font("맑은 고딕", Font.PLAIN, 14);
+        private boolean showDate;
+        private Todo todo;
+        private boolean selected;
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends Todo> list, Todo value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            this.todo = value;
+            this.selected = isSelected;
+            return this;
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (todo == null) return;
+
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            int rowHeight = 40;
+            int width = getWidth();
+
+            g2.setColor(selected ? UIStyle.getSelectionBackground() : UIStyle.getCardBackground());
+            g2.fillRect(0, 0, width, getHeight());
+
+            if (todo.isCompleted()) {
+                g2.setColor(UIStyle.getAccent());
+                g2.fillOval(2, 10, 22, 22);
+            } else {
+                g2.setColor(UIStyle.getTextSecondary());
+                g2.setStroke(new BasicStroke(1.5f));
+                g2.drawOval(2, 10, 22, 22);
+            }
+
+            int textX = CHECK_AREA_WIDTH + 10;
+            int textRight = width - 24 - 10;
+
+            g2.setColor(UIStyle.getCardBorder());
+            g2.fillRect(textX, rowHeight - 1, Math.max(0, textRight - textX), 1);
+
+            String text = todo.getTitle() != null ? todo.getTitle() : "";
+            if (showDate && todo.getDate() != null) {
+                text = "[" + DateUtils.dateToUiString(todo.getDate()) + "] " + text;
+            }
+            g2.setFont(textFont);
+            FontMetrics fm = g2.getFontMetrics();
+            text = ellipsize(text, fm, textRight - textX);
+            int baseline = (rowHeight - fm.getHeight()) / 2 + fm.getAscent();
+
+            g2.setColor(todo.isCompleted() ? UIStyle.getTextSecondary() : UIStyle.getTextPrimary());
+            g2.drawString(text, textX, baseline);
+            if (todo.isCompleted()) {
+                int strikeY = baseline - fm.getAscent() / 3;
+                g2.drawLine(textX, strikeY, textX + fm.stringWidth(text), strikeY);
+            }
+
+            int priority = todo.getPriority();
+            if (priority == 1) {
+                g2.setColor(UIStyle.getPriorityHighColor());
+            } else if (priority == 2) {
+                g2.setColor(UIStyle.getPriorityMediumColor());
+            } else {
+                g2.setColor(UIStyle.getPriorityLowColor());
+            }
+            g2.fillOval(width - 24 + 4, 12, 16, 16);
+
+            g2.dispose();
+        }
+
+        private static String ellipsize(String text, FontMetrics fm, int maxWidth) {
+            if (fm.stringWidth(text) <= maxWidth) return text;
+            String dots = "...";
+            int end = text.length();
+            while (end > 0 && fm.stringWidth(text.substring(0, end)) + fm.stringWidth(dots) > maxWidth) {
+                end--;
+            }
+            return text.substring(0, end) + dots;
+        }
+    }
+
     private static class RoundedBorder implements Border {
         private int radius;
 
@@ -258,6 +448,14 @@ public class TodoListViewPanel extends JPanel {
         }
     }
 
+    // 배경 + 보이는 행 전체를 그리는 데 걸린 시간
+    @Override
+    public void paint(Graphics g) {
+        long start = System.nanoTime();
+        super.paint(g);
+        Metrics.recordNanos("view.list.paint", start);
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         Graphics2D g2 = (Graphics2D) g.create();
@@ -0,0 +1,157 @@
+package dao;
+
+import model.FilterOptions;
+import model.Todo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 로그 재생, 쓰다 만 꼬리 복구, 필드 이스케이프, 스냅샷 압축 */
+class FileTodoRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void clearConfig() {
+        System.clearProperty("planit.storage.compactAfter");
+    }
+
+    @Test
+    void replaysLogOnReopen() {
+        int keptId;
+        int deletedId;
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            Todo kept = todo("회의", DAY, 2);
+            Todo deleted = todo("삭제할 일", DAY, 1);
+            repo.insertAll(List.of(kept, deleted));
+            keptId = kept.getId();
+            deletedId = deleted.getId();
+
+            kept.setTitle("회의 (수정)");
+            repo.update(kept);
+            kept.setCompleted(true);
+            repo.updateFields(kept);
+            repo.delete(deletedId);
+        }
+
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            Todo kept = repo.findById(keptId);
+            assertNotNull(kept);
+            assertEquals("회의 (수정)", kept.getTitle());
+            assertTrue(kept.isCompleted());
+            assertNull(repo.findById(deletedId));
+            assertEquals(1, repo.findByDate(DAY).size());
+        }
+    }
+
+    @Test
+    void discardsTornTailAndKeepsWriting() throws IOException {
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            repo.insert(todo("완료된 쓰기", DAY, 1));
+        }
+        // C 줄 없이, 줄바꿈도 없이 끝난 묶음 (쓰다가 죽음)
+        Files.writeString(dir.resolve("todos.log"), "U\t99\t2025-03-10\t1\t0\t반쪽",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            assertNull(repo.findById(99));
+            assertEquals(1, repo.findByFilter(new FilterOptions()).size());
+            repo.insert(todo("복구 뒤 쓰기", DAY, 2));
+        }
+
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            assertEquals(2, repo.findByFilter(new FilterOptions()).size());
+        }
+    }
+
+    @Test
+    void escapesFieldsRoundTrip() {
+        String title = "탭\t줄바꿈\n복귀\r역슬래시\\ 끝";
+        String nullLookalike = "\\0";
+        int id;
+        int lookalikeId;
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            Todo t = todo(title, DAY, 1);
+            t.setDescription(null);
+            repo.insert(t);
+            id = t.getId();
+
+            Todo lookalike = todo(nullLookalike, null, 3);
+            lookalike.setDescription("");
+            repo.insert(lookalike);
+            lookalikeId = lookalike.getId();
+        }
+
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            Todo t = repo.findById(id);
+            assertEquals(title, t.getTitle());
+            assertNull(t.getDescription());
+
+            Todo lookalike = repo.findById(lookalikeId);
+            assertEquals(nullLookalike, lookalike.getTitle());
+            assertEquals("", lookalike.getDescription());
+            assertNull(lookalike.getDate());
+        }
+    }
+
+    @Test
+    void escapeAndUnescapeAreInverse() {
+        for (String s : new String[]{"", "plain", "a\tb", "a\nb\r", "\\", "\\t", "\\0", "끝\\"}) {
+            String escaped = FileTodoRepository.escape(s);
+            assertTrue(escaped.indexOf('\t') < 0 && escaped.indexOf('\n') < 0, escaped);
+            assertEquals(s, FileTodoRepository.unescape(escaped));
+        }
+        assertNull(FileTodoRepository.unescape(FileTodoRepository.escape(null)));
+    }
+
+    @Test
+    void compactionKeepsStateAndNextId() throws IOException {
+        System.setProperty("planit.storage.compactAfter", "5");
+        int maxId = 0;
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            for (int i = 0; i < 8; i++) {
+                Todo t = todo("일정 " + i, DAY.plusDays(i), 1 + i % 3);
+                repo.insert(t);
+                maxId = t.getId();
+            }
+            repo.delete(maxId);   // 가장 큰 id 를 지워도 재시작 후 다시 쓰지 않아야 한다
+        }
+        assertTrue(Files.exists(dir.resolve("todos.snapshot")));
+        assertTrue(Files.size(dir.resolve("todos.log")) < Files.size(dir.resolve("todos.snapshot")));
+        assertTrue(Files.notExists(dir.resolve("todos.snapshot.tmp")));
+
+        try (FileTodoRepository repo = new FileTodoRepository(dir)) {
+            assertEquals(7, repo.findByFilter(new FilterOptions()).size());
+            assertNull(repo.findById(maxId));
+            Todo next = todo("새 일정", DAY, 1);
+            repo.insert(next);
+            assertTrue(next.getId() > maxId);
+        }
+    }
+
+    private static Todo todo(String title, LocalDate date, int priority) {
+        Todo t = new Todo();
+        t.setTitle(title);
+        t.setDescription("설명");
+        t.setDate(date);
+        t.setPriority(priority);
+        return t;
+    }
+}
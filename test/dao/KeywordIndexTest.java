@@ -0,0 +1,135 @@
+package dao;
+
+import model.FilterOptions;
+import model.Todo;
+import util.TextUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/* 토크나이저, 접기(fold), 한글 bigram, 부분 일치 검색, 그리고 FilterOptions.matches 와의 일치 */
+class KeywordIndexTest {
+
+    private static final String[][] TEXTS = {
+            {"Weekly Meeting", "agenda 3"},
+            {"팀 회의록 정리", null},
+            {"Café 예약", "résumé 검토"},
+            {"Straße 이사", null},
+            {"報告書 작성", "draft"},
+            {"TITLE İstanbul", "Iğdır"},
+            {null, "설명만 있는 일정"},
+    };
+
+    private static final String[] KEYWORDS = {
+            "meet", "MEETING", "agenda", "회의", "의록", "회록", "정", "cafe", "CAFÉ", "resume", "예약",
+            "strasse", "이사", "draft", "title", "istanbul", "설명만", "없음", "3", "e 예",
+    };
+
+    @Test
+    void tokenizesWordsAndHangulGrams() {
+        List<String> tokens = KeywordIndex.tokenize(TextUtils.fold("Weekly Meeting 회의록"));
+        assertTrue(tokens.containsAll(List.of("weekly", "meeting", "회", "의", "록", "회의", "의록")));
+        assertFalse(tokens.contains("회록"));
+        assertEquals(tokens.size(), Set.copyOf(tokens).size());   // 중복 없음
+    }
+
+    @Test
+    void foldsCaseAndAccents() {
+        assertEquals("cafe resume", TextUtils.fold("CAFÉ Résumé"));
+        assertEquals("회의록", TextUtils.fold("회의록"));   // 한글 음절은 NFD 후 다시 합쳐진다
+        assertNull(TextUtils.fold(null));
+    }
+
+    @Test
+    void foldIgnoresDefaultLocale() {
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals("title", TextUtils.fold("TITLE"));
+            FilterOptions f = new FilterOptions();
+            f.setKeyword("title");
+            assertTrue(f.matches(todo(1, "TITLE", null)));
+        } finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+    @Test
+    void searchesSubstringsAndGrams() {
+        KeywordIndex index = new KeywordIndex();
+        index.put(1, "Weekly Meeting", null);
+        index.put(2, "팀 회의록", null);
+        index.put(3, "Café", "예약");
+
+        assertEquals(Set.of(1), index.search("eet"));
+        assertEquals(Set.of(2), index.search("의록"));
+        assertEquals(Set.of(), index.search("회록"));
+        assertEquals(Set.of(3), index.search("cafe 예약"));
+        assertEquals(Set.of(3), index.search("CAFÉ"));
+
+        index.remove(2);
+        assertEquals(Set.of(), index.search("회의"));
+        index.put(1, "Daily standup", null);
+        assertEquals(Set.of(), index.search("meeting"));
+        assertEquals(Set.of(1), index.search("stand"));
+    }
+
+    @Test
+    void unfoldableTextIsAlwaysACandidate() {
+        KeywordIndex index = new KeywordIndex();
+        index.put(1, "Straße", null);
+        index.put(2, "street", null);
+
+        Set<Integer> ids = index.search("strasse");
+        assertNotNull(ids);
+        assertTrue(ids.contains(1));   // 정렬 규칙상 ß = ss 일 수 있으므로 후보에 남긴다
+        assertNull(index.search("ß"));   // 색인으로 좁힐 수 없는 검색어
+    }
+
+    // 색인 후보는 메모리 판정(FilterOptions.matches)이 맞다고 하는 행을 하나도 빠뜨리면 안 된다
+    @Test
+    void candidatesCoverEveryMatchingRow() {
+        KeywordIndex index = new KeywordIndex();
+        for (int i = 0; i < TEXTS.length; i++) {
+            index.put(i, TEXTS[i][0], TEXTS[i][1]);
+        }
+        for (String keyword : KEYWORDS) {
+            Set<Integer> candidates = index.search(keyword);
+            FilterOptions f = new FilterOptions();
+            f.setKeyword(keyword);
+            for (int i = 0; i < TEXTS.length; i++) {
+                if (f.matches(todo(i, TEXTS[i][0], TEXTS[i][1]))) {
+                    assertTrue(candidates == null || candidates.contains(i), keyword + " -> " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesFoldsLikeTheIndex() {
+        FilterOptions f = new FilterOptions();
+        f.setKeyword(" CAFE ");
+        assertTrue(f.matches(todo(1, "café 예약", null)));
+        f.setKeyword("resume");
+        assertTrue(f.matches(todo(2, null, "Résumé 검토")));
+        f.setKeyword("회의");
+        assertFalse(f.matches(todo(3, "회록", null)));
+    }
+
+    private static Todo todo(int id, String title, String description) {
+        Todo t = new Todo();
+        t.setId(id);
+        t.setTitle(title);
+        t.setDescription(description);
+        return t;
+    }
+}